@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data.benchmarks;
+
+import lombok.Data;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.spring.data.AggregateMappingModule;
+import org.modelmapper.spring.data.UriTemplateIdentifierProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.repository.support.Repositories;
+
+/**
+ * Benchmarks mapping DTOs containing aggregate references into DTOs containing the aggregates and back. Run with
+ * {@code -prof gc} to also track the allocation rate.
+ *
+ * @author Oliver Drotbohm
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AggregateMappingBenchmarks {
+
+	private static final String TEMPLATE = "/products/{id}";
+
+	private AnnotationConfigApplicationContext context;
+	private ModelMapper mapper;
+
+	private ProductReference reference;
+	private ProductUriReference uriReference;
+	private ProductHolder holder;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		this.context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+
+		Product product = context.getBean(ProductRepository.class).save(new Product(UUID.randomUUID(), "Product"));
+
+		UriTemplateIdentifierProcessor processor = new UriTemplateIdentifierProcessor()
+				.register(Product.class, TEMPLATE);
+		processor.setOnlyApplyToUri(true);
+
+		AggregateMappingModule module = new AggregateMappingModule(new Repositories(context),
+				context.getBean(ConversionService.class))
+						.register(processor);
+
+		this.mapper = new ModelMapper();
+		this.mapper.registerModule(module);
+
+		this.reference = new ProductReference();
+		this.reference.product = product.getId();
+
+		this.uriReference = new ProductUriReference();
+		this.uriReference.product = URI.create(TEMPLATE.replace("{id}", product.getId().toString()));
+
+		this.holder = new ProductHolder();
+		this.holder.product = product;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public ProductHolder singleReference() {
+		return mapper.map(reference, ProductHolder.class);
+	}
+
+	@Benchmark
+	public ProductHolder uriReference() {
+		return mapper.map(uriReference, ProductHolder.class);
+	}
+
+	@Benchmark
+	public ProductsHolder referenceCollection(Collections collections) {
+		return mapper.map(collections.references, ProductsHolder.class);
+	}
+
+	@Benchmark
+	public ProductUriReference aggregateToUri() {
+		return mapper.map(holder, ProductUriReference.class);
+	}
+
+	@Benchmark
+	public ProductReferences aggregateCollectionToIdentifiers(Collections collections) {
+		return mapper.map(collections.productsHolder, ProductReferences.class);
+	}
+
+	/**
+	 * The collections to map, kept separate from the benchmark's own state so that only the collection benchmarks are
+	 * run for the different collection sizes.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@State(Scope.Benchmark)
+	public static class Collections {
+
+		@Param({ "10", "100", "1000" }) int collectionSize;
+
+		private ProductReferences references;
+		private ProductsHolder productsHolder;
+
+		@Setup(Level.Trial)
+		public void setUp(AggregateMappingBenchmarks benchmarks) {
+
+			ProductRepository repository = benchmarks.context.getBean(ProductRepository.class);
+
+			List<Product> products = IntStream.range(0, collectionSize)
+					.mapToObj(it -> new Product(UUID.randomUUID(), "Product " + it))
+					.map(repository::save)
+					.collect(Collectors.toList());
+
+			this.references = new ProductReferences();
+			this.references.products = products.stream()
+					.map(Product::getId)
+					.collect(Collectors.toCollection(ArrayList::new));
+
+			this.productsHolder = new ProductsHolder();
+			this.productsHolder.products = products;
+		}
+	}
+
+	@Data
+	public static class ProductReference {
+		UUID product;
+	}
+
+	@Data
+	public static class ProductUriReference {
+		URI product;
+	}
+
+	@Data
+	public static class ProductReferences {
+		List<UUID> products;
+	}
+
+	@Data
+	public static class ProductHolder {
+		Product product;
+	}
+
+	@Data
+	public static class ProductsHolder {
+		List<Product> products;
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data.benchmarks;
+
+import lombok.Data;
+
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+
+/**
+ * A simple aggregate to be referred to from the DTOs mapped in the benchmarks.
+ *
+ * @author Oliver Drotbohm
+ */
+@Data
+public class Product {
+
+	private final @Id UUID id;
+	private final String name;
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data.benchmarks;
+
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.spring.data.UriTemplateIdentifierProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * Benchmarks extracting identifiers from and rendering URIs for plain URI templates and ones using a regular
+ * expression for the identifier variable in isolation.
+ *
+ * @author Oliver Drotbohm
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class UriTemplateIdentifierProcessorBenchmarks {
+
+	@Param({ "/products/{id}", "/products/{id:[0-9a-f\\-]+}" }) String template;
+
+	private UriTemplateIdentifierProcessor processor;
+	private UUID identifier;
+	private URI uri;
+
+	@Setup
+	public void setUp() {
+
+		this.processor = new UriTemplateIdentifierProcessor()
+				.register(Product.class, new UriTemplate(template), "id");
+		this.identifier = UUID.randomUUID();
+		this.uri = new UriTemplate(template).expand(identifier);
+	}
+
+	@Benchmark
+	public Object extractIdentifier() {
+		return processor.preProcessIdentifier(uri, Product.class);
+	}
+
+	@Benchmark
+	public Object renderUri() {
+		return processor.postProcessIdentifier(identifier, Product.class, URI.class);
+	}
+}
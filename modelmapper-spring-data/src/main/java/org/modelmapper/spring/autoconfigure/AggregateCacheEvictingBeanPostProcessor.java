@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.autoconfigure;
+
+import org.modelmapper.spring.data.AggregateCacheEvictingRepositoryMethodInvocationListener;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactoryCustomizer;
+
+/**
+ * {@link BeanPostProcessor} to register an {@link AggregateCacheEvictingRepositoryMethodInvocationListener} with all
+ * repositories so that aggregate caches are evicted on writes. The caches configured are not known before the
+ * repositories are set up, so that the listener itself ignores the repositories of types without a cache.
+ *
+ * @author Oliver Drotbohm
+ */
+class AggregateCacheEvictingBeanPostProcessor implements BeanPostProcessor {
+
+	private final RepositoryFactoryCustomizer customizer;
+
+	/**
+	 * Creates a new {@link AggregateCacheEvictingBeanPostProcessor} for the given
+	 * {@link AggregateCacheEvictingRepositoryMethodInvocationListener}.
+	 *
+	 * @param listener must not be {@literal null}.
+	 */
+	AggregateCacheEvictingBeanPostProcessor(AggregateCacheEvictingRepositoryMethodInvocationListener listener) {
+		this.customizer = factory -> factory.addInvocationListener(listener);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.config.BeanPostProcessor#postProcessBeforeInitialization(java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+
+		if (bean instanceof RepositoryFactoryBeanSupport) {
+			((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(customizer);
+		}
+
+		return bean;
+	}
+}
@@ -15,18 +15,27 @@
  */
 package org.modelmapper.spring.autoconfigure;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 import java.util.List;
 
 import org.modelmapper.ModelMapper;
+import org.modelmapper.spring.data.AggregateCacheEvictingRepositoryMethodInvocationListener;
 import org.modelmapper.spring.data.AggregateIdentifierProcessor;
 import org.modelmapper.spring.data.AggregateMappingConfigurer;
+import org.modelmapper.spring.data.AggregateMappingMetrics;
 import org.modelmapper.spring.data.AggregateMappingModule;
+import org.modelmapper.spring.data.MicrometerAggregateMappingMetrics;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.support.Repositories;
@@ -34,23 +43,54 @@ import org.springframework.data.repository.support.Repositories;
 /**
  * @author Oliver Drotbohm
  */
+@Configuration(proxyBeanMethods = false)
 @ConditionalOnClass({ ModelMapper.class, Repository.class })
 @AutoConfigureBefore(ModelMapperAutoConfiguration.class)
+@AutoConfigureAfter(name = {
+		"org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration" })
 class AggregateMappingModuleAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
 	AggregateMappingModule repositoryMappingModule(ApplicationContext context,
-			ObjectProvider<ConversionService> conversionService,
-			List<AggregateIdentifierProcessor> processors, List<AggregateMappingConfigurer> configurers) {
+			ObjectProvider<Repositories> existingRepositories, ObjectProvider<ConversionService> conversionService,
+			ObjectProvider<AggregateMappingMetrics> metrics, List<AggregateIdentifierProcessor> processors,
+			List<AggregateMappingConfigurer> configurers) {
 
-		Repositories repositories = new Repositories(context);
+		// Reuse already inspected repositories, e.g. the ones set up by Spring Data REST
+		Repositories repositories = existingRepositories.getIfUnique(() -> new Repositories(context));
 		AggregateMappingModule module = new AggregateMappingModule(repositories,
 				conversionService.getIfUnique(() -> context.getBean("mvcConversionService", ConversionService.class)));
 
 		processors.forEach(module::register);
+		metrics.ifUnique(module::metrics);
 		configurers.forEach(it -> it.configure(module));
 
 		return module;
 	}
+
+	@Bean
+	static AggregateCacheEvictingBeanPostProcessor aggregateCacheEvictingBeanPostProcessor(
+			ObjectProvider<AggregateMappingModule> module) {
+
+		return new AggregateCacheEvictingBeanPostProcessor(
+				new AggregateCacheEvictingRepositoryMethodInvocationListener(module::getObject));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	static class AggregateMappingMetricsConfiguration {
+
+		/**
+		 * Only registered if there's a {@link MeterRegistry} to bind to, as otherwise the metrics would be recorded
+		 * without being published. Backs off in favor of any user-declared {@link AggregateMappingMetrics}.
+		 */
+		@Bean
+		@ConditionalOnBean(MeterRegistry.class)
+		@ConditionalOnMissingBean(AggregateMappingMetrics.class)
+		MicrometerAggregateMappingMetrics aggregateMappingMetrics() {
+			return new MicrometerAggregateMappingMetrics();
+		}
+	}
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache of aggregates by identifier that outlives individual mapping invocations. Evicts the oldest entries
+ * once the maximum size is exceeded and expires entries after the configured time to live. As the cache is consulted
+ * for every reference to a cached aggregate type, lookups do not lock. Evicting in insertion rather than access order
+ * allows that, at the price of occasionally evicting frequently used entries early. Entries looked up before a
+ * concurrent {@link #evictAll() eviction} can be dropped by putting them for the {@link #getGeneration() generation}
+ * captured before the lookup, so that they cannot outlive the eviction. Entries dropped or replaced leave their
+ * position in the insertion order behind, which is skipped when polled. The number of those positions is bounded, too,
+ * so that repeatedly expiring identifiers cannot grow it indefinitely.
+ *
+ * @author Oliver Drotbohm
+ * @see AggregateMappingModule#cache(Class, int, Duration)
+ */
+class AggregateCache {
+
+	private final int maxSize;
+	private final long ttlNanos;
+	private final Map<Object, CacheEntry> entries;
+	private final Queue<CacheEntry> insertionOrder;
+	private final AtomicInteger queued;
+	private final AtomicLong generation;
+
+	/**
+	 * Creates a new {@link AggregateCache} with the given maximum size and time to live.
+	 *
+	 * @param maxSize must be greater than zero.
+	 * @param ttl must not be {@literal null} or negative.
+	 */
+	AggregateCache(int maxSize, Duration ttl) {
+
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero!");
+		Assert.notNull(ttl, "Time to live must not be null!");
+		Assert.isTrue(!ttl.isNegative(), "Time to live must not be negative!");
+
+		this.maxSize = maxSize;
+		this.ttlNanos = ttl.toNanos();
+		this.entries = new ConcurrentHashMap<>();
+		this.insertionOrder = new ConcurrentLinkedQueue<>();
+		this.queued = new AtomicInteger();
+		this.generation = new AtomicLong();
+	}
+
+	/**
+	 * Returns the current generation of the cache, i.e. the number of evictions so far.
+	 *
+	 * @return the current generation.
+	 */
+	long getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Returns the aggregate cached for the given identifier unless it has expired already.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Object get(Object id) {
+
+		CacheEntry entry = entries.get(id);
+
+		if (entry == null) {
+			return null;
+		}
+
+		if (entry.expiresAt - System.nanoTime() < 0) {
+			entries.remove(id, entry);
+			return null;
+		}
+
+		return entry.aggregate;
+	}
+
+	/**
+	 * Caches the given aggregate for the given identifier unless the cache has been evicted since the given generation.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param aggregate must not be {@literal null}.
+	 * @param generation the {@link #getGeneration() generation} captured before the aggregate was looked up.
+	 */
+	void put(Object id, Object aggregate, long generation) {
+
+		CacheEntry entry = new CacheEntry(id, aggregate, System.nanoTime() + ttlNanos);
+
+		entries.put(id, entry);
+		insertionOrder.offer(entry);
+		queued.incrementAndGet();
+
+		// Checked after putting the entry as an eviction might have started in between
+		if (this.generation.get() != generation) {
+			entries.remove(id, entry);
+		}
+
+		// Positions of dropped or replaced entries are only removed when polled
+		while (entries.size() > maxSize || queued.get() > 2 * maxSize) {
+
+			CacheEntry eldest = insertionOrder.poll();
+
+			if (eldest == null) {
+				return;
+			}
+
+			queued.decrementAndGet();
+
+			// Only removes the entry if it's still the current one for the identifier
+			entries.remove(eldest.id, eldest);
+		}
+	}
+
+	/**
+	 * Removes all cached aggregates.
+	 */
+	void evictAll() {
+
+		generation.incrementAndGet();
+		entries.clear();
+
+		while (insertionOrder.poll() != null) {
+			queued.decrementAndGet();
+		}
+	}
+
+	/**
+	 * A cached aggregate. Deliberately compared by identity, so that conditional removals only affect the very entry
+	 * they were issued for.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	private static class CacheEntry {
+
+		private final Object id;
+		private final Object aggregate;
+		private final long expiresAt;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryMethodInvocationListener} to evict the aggregates and unresolvable identifiers cached by an
+ * {@link AggregateMappingModule} once a saving or deleting method has been invoked on the repository managing them. As
+ * the invocation does not expose the arguments, all cache entries of the repository's domain type are evicted.
+ * Invocations on repositories of domain types without any cache configured are ignored right away.
+ *
+ * @author Oliver Drotbohm
+ * @see AggregateMappingModule#cache(Class, int, java.time.Duration)
+ * @see AggregateMappingModule#cacheMisses(Class, int, java.time.Duration)
+ */
+public class AggregateCacheEvictingRepositoryMethodInvocationListener implements RepositoryMethodInvocationListener {
+
+	private final Supplier<AggregateMappingModule> module;
+	private final Map<Class<?>, Optional<Class<?>>> cachedTypes;
+
+	/**
+	 * Creates a new {@link AggregateCacheEvictingRepositoryMethodInvocationListener} for the given
+	 * {@link AggregateMappingModule}. The module is obtained lazily to allow repositories to be initialized before it.
+	 *
+	 * @param module must not be {@literal null}.
+	 */
+	public AggregateCacheEvictingRepositoryMethodInvocationListener(Supplier<AggregateMappingModule> module) {
+
+		Assert.notNull(module, "AggregateMappingModule must not be null!");
+
+		this.module = module;
+		this.cachedTypes = new ConcurrentHashMap<>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryMethodInvocationListener#afterInvocation(org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation)
+	 */
+	@Override
+	public void afterInvocation(RepositoryMethodInvocation invocation) {
+
+		String name = invocation.getMethod().getName();
+
+		if (!name.startsWith("save") && !name.startsWith("delete")) {
+			return;
+		}
+
+		// The module is fully configured once obtained, so that whether a type is cached doesn't change anymore
+		cachedTypes.computeIfAbsent(invocation.getRepositoryInterface(), it -> {
+
+			Class<?> domainType = AbstractRepositoryMetadata.getMetadata(it).getDomainType();
+
+			return module.get().isCached(domainType) ? Optional.of(domainType) : Optional.empty();
+
+		}).ifPresent(it -> module.get().evict(it));
+	}
+}
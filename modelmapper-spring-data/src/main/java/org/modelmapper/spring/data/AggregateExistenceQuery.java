@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Repository fragment interface to be implemented by repositories that can determine which of a set of identifiers
+ * refer to existing aggregates with a single, lightweight query, e.g. by only selecting the identifiers. Used by
+ * {@link AggregateReferenceValidator} in favor of loading the aggregates.
+ *
+ * @author Oliver Drotbohm
+ * @param <ID> the identifier type of the aggregate
+ */
+public interface AggregateExistenceQuery<ID> {
+
+	/**
+	 * Returns the subset of the given identifiers that refer to existing aggregates.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Set<ID> findExistingIds(Collection<ID> ids);
+}
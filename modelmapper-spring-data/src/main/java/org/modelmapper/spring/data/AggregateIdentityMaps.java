@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.Value;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.modelmapper.spi.MappingContext;
+import org.modelmapper.spring.data.AggregateMappingModule.IdentityMapScope;
+import org.modelmapper.spring.data.AggregateMappingModule.IdentityMapStatistics;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Manages {@link AggregateIdentityMap}s for a given {@link IdentityMapScope}. Mapping scoped identity maps are bound
+ * to the root {@link MappingContext} of a {@link org.modelmapper.ModelMapper#map(Object, Class)} invocation on the
+ * current thread and replaced as soon as a different root context shows up. As ModelMapper does not signal the
+ * completion of a mapping, the aggregates of a mapping scoped identity map are released once its root context has been
+ * garbage collected so that pooled threads do not keep them alive until they map again. Request scoped ones are held
+ * as attribute of the current request and fall back to the mapping scope if no request is bound to the current thread.
+ *
+ * @author Oliver Drotbohm
+ */
+class AggregateIdentityMaps {
+
+	private static final String ATTRIBUTE_NAME = AggregateIdentityMaps.class.getName();
+	private static final Cleaner CLEANER = Cleaner.create();
+	private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+			"org.springframework.web.context.request.RequestContextHolder", AggregateIdentityMaps.class.getClassLoader());
+
+	private final IdentityMapScope scope;
+	private final int maxSize;
+	private final IdentityMapStatistics statistics;
+	private final ThreadLocal<MappingScope> mappingScope;
+
+	/**
+	 * Creates a new {@link AggregateIdentityMaps} for the given {@link IdentityMapScope}, maximum size and
+	 * {@link IdentityMapStatistics}.
+	 *
+	 * @param scope must not be {@literal null}.
+	 * @param maxSize the maximum number of aggregates to be held per identity map, must be greater than zero.
+	 * @param statistics must not be {@literal null}.
+	 */
+	AggregateIdentityMaps(IdentityMapScope scope, int maxSize, IdentityMapStatistics statistics) {
+
+		Assert.notNull(scope, "IdentityMapScope must not be null!");
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero!");
+		Assert.notNull(statistics, "IdentityMapStatistics must not be null!");
+
+		this.scope = scope;
+		this.maxSize = maxSize;
+		this.statistics = statistics;
+		this.mappingScope = new ThreadLocal<>();
+	}
+
+	/**
+	 * Returns the {@link AggregateIdentityMap} to be used for the given {@link MappingContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	AggregateIdentityMap getFor(MappingContext<?, ?> context) {
+		return getFor(context, __ -> create(maxSize));
+	}
+
+	/**
+	 * Returns the {@link AggregateIdentityMap} to be used for the given {@link MappingContext} and obtains new ones from
+	 * the given factory, handing it the root {@link MappingContext} they are created for.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see #create(int)
+	 */
+	AggregateIdentityMap getFor(MappingContext<?, ?> context,
+			Function<MappingContext<?, ?>, AggregateIdentityMap> factory) {
+
+		if (IdentityMapScope.REQUEST.equals(scope) && WEB_PRESENT) {
+
+			RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+			if (attributes != null) {
+
+				Object existing = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+
+				if (existing instanceof AggregateIdentityMap) {
+					return (AggregateIdentityMap) existing;
+				}
+
+				AggregateIdentityMap identityMap = factory.apply(getRoot(context));
+				attributes.setAttribute(ATTRIBUTE_NAME, identityMap, RequestAttributes.SCOPE_REQUEST);
+
+				return identityMap;
+			}
+		}
+
+		MappingContext<?, ?> root = getRoot(context);
+		MappingScope current = mappingScope.get();
+
+		if (current != null && current.get() == root) {
+			return current.identityMap;
+		}
+
+		MappingScope scope = new MappingScope(root, factory.apply(root));
+		mappingScope.set(scope);
+
+		// The cleanup action must not refer to the root context to allow it to become unreachable
+		CLEANER.register(root, scope.identityMap::clear);
+
+		return scope.identityMap;
+	}
+
+	/**
+	 * Creates a new, empty {@link AggregateIdentityMap} holding at most the given number of aggregates.
+	 *
+	 * @param maxSize must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	AggregateIdentityMap create(int maxSize) {
+		return new AggregateIdentityMap(maxSize);
+	}
+
+	private static MappingContext<?, ?> getRoot(MappingContext<?, ?> context) {
+
+		MappingContext<?, ?> current = context;
+
+		while (current.getParent() != null) {
+			current = current.getParent();
+		}
+
+		return current;
+	}
+
+	/**
+	 * A bounded map of aggregates by type and identifier evicting the least recently used ones once the configured
+	 * maximum size is exceeded.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	class AggregateIdentityMap {
+
+		private final Map<Key, Object> aggregates;
+
+		private AggregateIdentityMap(int maxSize) {
+			this.aggregates = new BoundedLruMap<>(maxSize);
+		}
+
+		/**
+		 * Returns the aggregate of the given type and identifier if it has been registered before.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param id must not be {@literal null}.
+		 * @return can be {@literal null}.
+		 */
+		@Nullable
+		synchronized Object get(Class<?> type, Object id) {
+
+			Object result = aggregates.get(Key.of(type, id));
+
+			statistics.record(result != null);
+
+			return result;
+		}
+
+		/**
+		 * Registers the given aggregate with the given type and identifier.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param id must not be {@literal null}.
+		 * @param aggregate must not be {@literal null}.
+		 */
+		synchronized void put(Class<?> type, Object id, Object aggregate) {
+			aggregates.put(Key.of(type, id), aggregate);
+		}
+
+		/**
+		 * Removes all aggregates registered.
+		 */
+		synchronized void clear() {
+			aggregates.clear();
+		}
+	}
+
+	/**
+	 * An {@link AggregateIdentityMap} bound to a root {@link MappingContext}. We deliberately compare the contexts by
+	 * identity as {@link MappingContext} implementations consider contexts for the same source equal.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class MappingScope extends WeakReference<MappingContext<?, ?>> {
+
+		private final AggregateIdentityMap identityMap;
+
+		MappingScope(MappingContext<?, ?> root, AggregateIdentityMap identityMap) {
+
+			super(root);
+
+			this.identityMap = identityMap;
+		}
+	}
+
+	@Value(staticConstructor = "of")
+	private static class Key {
+
+		Class<?> type;
+		Object id;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import org.modelmapper.spring.data.AggregateMappingModule.AggregateReferenceMappingException;
+
+/**
+ * SPI to record metrics about the identifier to aggregate mapping performed by {@link AggregateMappingModule}. All
+ * callbacks default to no-ops so that implementations only need to override the ones they are interested in.
+ *
+ * @author Oliver Drotbohm
+ * @see MicrometerAggregateMappingMetrics
+ */
+public interface AggregateMappingMetrics {
+
+	/**
+	 * An {@link AggregateMappingMetrics} not recording anything.
+	 */
+	static AggregateMappingMetrics NONE = new AggregateMappingMetrics() {};
+
+	/**
+	 * Records the time it took to pre-process a source identifier and convert it into the aggregate's identifier type.
+	 *
+	 * @param aggregateType will never be {@literal null}.
+	 * @param nanos the duration in nanoseconds.
+	 */
+	default void identifierProcessed(Class<?> aggregateType, long nanos) {}
+
+	/**
+	 * Records the time it took to convert a single identifier or a collection of identifiers into aggregates.
+	 *
+	 * @param aggregateType will never be {@literal null}.
+	 * @param nanos the duration in nanoseconds.
+	 */
+	default void converted(Class<?> aggregateType, long nanos) {}
+
+	/**
+	 * Records the time a repository lookup for the given number of identifiers took.
+	 *
+	 * @param aggregateType will never be {@literal null}.
+	 * @param identifiers the number of identifiers looked up.
+	 * @param nanos the duration in nanoseconds.
+	 */
+	default void lookedUp(Class<?> aggregateType, int identifiers, long nanos) {}
+
+	/**
+	 * Records an identifier that could not be resolved into an aggregate.
+	 *
+	 * @param aggregateType will never be {@literal null}.
+	 */
+	default void unresolved(Class<?> aggregateType) {}
+
+	/**
+	 * Records an {@link AggregateReferenceMappingException} being thrown for an unresolvable identifier.
+	 *
+	 * @param aggregateType will never be {@literal null}.
+	 */
+	default void rejected(Class<?> aggregateType) {}
+}
@@ -16,20 +16,33 @@
 package org.modelmapper.spring.data;
 
 import lombok.Getter;
+import lombok.Value;
 
+import java.io.Serializable;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import org.modelmapper.Converter;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
+import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.ConditionalConverter.MatchResult;
 import org.modelmapper.spi.ErrorMessage;
 import org.modelmapper.spi.Mapping;
 import org.modelmapper.spi.MappingContext;
+import org.modelmapper.spring.data.AggregateIdentityMaps.AggregateIdentityMap;
+import org.modelmapper.spring.data.AggregateMappingModule.AggregateReferenceMappingException.FailedReference;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.support.DefaultRepositoryInvokerFactory;
 import org.springframework.data.repository.support.Repositories;
-import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
@@ -51,7 +64,17 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 	private final List<AggregateIdentifierProcessor> processors;
 	private final List<Class<?>> exclusions;
 	private final Map<Class<?>, NullHandling> nullHandling;
+	private final Map<Class<?>, ReferenceHandling> referenceHandling;
+	private final Map<Class<?>, AggregateCache> caches;
+	private final Map<Class<?>, AggregateCache> misses;
+	private final IdentityMapStatistics identityMapStatistics;
 	private NullHandling defaultNullHandling;
+	private FailureReporting failureReporting;
+	private boolean rejectionStackTraces;
+	private @Nullable AggregateIdentityMaps identityMaps;
+	private AggregateMappingMetrics metrics;
+	private @Nullable ParallelAggregateResolver.Settings parallelResolution;
+	private @Nullable AggregateResolutionPlans plans;
 
 	/**
 	 * Creates a new {@link AggregateMappingModule} from the given {@link Repositories} and {@link ConversionService}.
@@ -70,7 +93,14 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 		this.processors = new ArrayList<>();
 		this.exclusions = new ArrayList<>();
 		this.nullHandling = new HashMap<>();
+		this.referenceHandling = new HashMap<>();
+		this.caches = new ConcurrentHashMap<>();
+		this.misses = new ConcurrentHashMap<>();
+		this.identityMapStatistics = new IdentityMapStatistics();
 		this.defaultNullHandling = NullHandling.THROW_EXCEPTION;
+		this.failureReporting = FailureReporting.FAIL_FAST;
+		this.rejectionStackTraces = true;
+		this.metrics = AggregateMappingMetrics.NONE;
 	}
 
 	/**
@@ -81,6 +111,7 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 	 */
 	public AggregateMappingModule register(AggregateIdentifierProcessor processor) {
 
+		assertConfigurable();
 		Assert.notNull(processor, "IdentifierProcessor must not be null!");
 
 		this.processors.add(processor);
@@ -96,6 +127,7 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 	 */
 	public AggregateMappingModule exclude(Class<?> type) {
 
+		assertConfigurable();
 		Assert.notNull(type, "Type must not be null!");
 
 		this.exclusions.add(type);
@@ -114,6 +146,7 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 	 */
 	public AggregateMappingModule nullHandling(Class<?> type, NullHandling nullHandling) {
 
+		assertConfigurable();
 		Assert.notNull(type, "Type must not be null!");
 		Assert.notNull(nullHandling, "NullHandling must not be null!");
 
@@ -122,6 +155,24 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 		return this;
 	}
 
+	/**
+	 * Registers a dedicated {@link ReferenceHandling} for the given type. Defaults to {@link ReferenceHandling#EAGER}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param referenceHandling must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public AggregateMappingModule referenceHandling(Class<?> type, ReferenceHandling referenceHandling) {
+
+		assertConfigurable();
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(referenceHandling, "ReferenceHandling must not be null!");
+
+		this.referenceHandling.put(type, referenceHandling);
+
+		return this;
+	}
+
 	/**
 	 * Registers the given {@link NullHandling} as the one to be applied by default. Defaults to
 	 * {@link NullHandling#THROW_EXCEPTION}.
@@ -131,6 +182,7 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 	 */
 	public AggregateMappingModule defaultNullHandling(NullHandling nullHandling) {
 
+		assertConfigurable();
 		Assert.notNull(nullHandling, "Null handling must not be null!");
 
 		this.defaultNullHandling = nullHandling;
@@ -138,6 +190,236 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 		return this;
 	}
 
+	/**
+	 * Configures how references rejected due to {@link NullHandling#THROW_EXCEPTION} are reported. Defaults to
+	 * {@link FailureReporting#FAIL_FAST}.
+	 *
+	 * @param failureReporting must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public AggregateMappingModule failureReporting(FailureReporting failureReporting) {
+
+		assertConfigurable();
+		Assert.notNull(failureReporting, "Failure reporting must not be null!");
+
+		this.failureReporting = failureReporting;
+
+		return this;
+	}
+
+	/**
+	 * Configures whether {@link AggregateReferenceMappingException}s capture the stack trace of the point they're
+	 * thrown at. Defaults to {@literal true}. As rejected references are usually caused by invalid input, disabling this
+	 * considerably reduces the cost of rejecting them in high volume, e.g. on bulk imports.
+	 *
+	 * @param rejectionStackTraces whether to capture stack traces of rejected references.
+	 * @return will never be {@literal null}.
+	 */
+	public AggregateMappingModule rejectionStackTraces(boolean rejectionStackTraces) {
+
+		assertConfigurable();
+
+		this.rejectionStackTraces = rejectionStackTraces;
+
+		return this;
+	}
+
+	/**
+	 * Enables an identity map of the given maximum size so that repeated references to the same aggregate within the
+	 * given {@link IdentityMapScope} resolve to the already loaded instance instead of hitting the repository again.
+	 *
+	 * @param scope must not be {@literal null}.
+	 * @param maxSize the maximum number of aggregates held per identity map, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @see #getIdentityMapStatistics()
+	 */
+	public AggregateMappingModule identityMap(IdentityMapScope scope, int maxSize) {
+
+		Assert.notNull(scope, "IdentityMapScope must not be null!");
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero!");
+
+		this.identityMaps = new AggregateIdentityMaps(scope, maxSize, identityMapStatistics);
+
+		return this;
+	}
+
+	/**
+	 * Returns the hit and miss counts of the identity map enabled via {@link #identityMap(IdentityMapScope, int)}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public IdentityMapStatistics getIdentityMapStatistics() {
+		return identityMapStatistics;
+	}
+
+	/**
+	 * Enables caching of the aggregates of the given type beyond individual mapping invocations. Primarily useful for
+	 * near-static reference data. The cache holds at most the given number of aggregates, evicting the oldest ones,
+	 * and expires entries after the given time to live.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param maxSize the maximum number of aggregates to cache, must be greater than zero.
+	 * @param ttl the time to live of a cached aggregate, must not be {@literal null} or negative.
+	 * @return will never be {@literal null}.
+	 * @see #evict(Class)
+	 * @see AggregateCacheEvictingRepositoryMethodInvocationListener
+	 */
+	public AggregateMappingModule cache(Class<?> type, int maxSize, Duration ttl) {
+
+		assertConfigurable();
+		Assert.notNull(type, "Type must not be null!");
+
+		this.caches.put(type, new AggregateCache(maxSize, ttl));
+
+		return this;
+	}
+
+	/**
+	 * Enables remembering identifiers of the given aggregate type that could not be resolved, so that repeated
+	 * references to them are handed to the configured {@link NullHandling} without hitting the repository again. Holds
+	 * at most the given number of identifiers, evicting the oldest ones, and expires them after the given time to live,
+	 * which should be short as aggregates created in the meantime are not visible until then unless evicted
+	 * explicitly.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param maxSize the maximum number of identifiers to remember, must be greater than zero.
+	 * @param ttl the time to live of a remembered identifier, must not be {@literal null} or negative.
+	 * @return will never be {@literal null}.
+	 * @see #evict(Class)
+	 * @see AggregateCacheEvictingRepositoryMethodInvocationListener
+	 */
+	public AggregateMappingModule cacheMisses(Class<?> type, int maxSize, Duration ttl) {
+
+		assertConfigurable();
+		Assert.notNull(type, "Type must not be null!");
+
+		this.misses.put(type, new AggregateCache(maxSize, ttl));
+
+		return this;
+	}
+
+	/**
+	 * Returns whether aggregates or unresolvable identifiers of the given type are cached.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return whether {@link #evict(Class)} has any effect for the given type.
+	 */
+	boolean isCached(Class<?> type) {
+		return caches.containsKey(type) || misses.containsKey(type);
+	}
+
+	/**
+	 * Evicts all cached aggregates and unresolvable identifiers of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @see #cache(Class, int, Duration)
+	 * @see #cacheMisses(Class, int, Duration)
+	 */
+	public void evict(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		AggregateCache cache = caches.get(type);
+
+		if (cache != null) {
+			cache.evictAll();
+		}
+
+		AggregateCache missed = misses.get(type);
+
+		if (missed != null) {
+			missed.evictAll();
+		}
+	}
+
+	/**
+	 * Enables the concurrent resolution of the aggregates referred to by the top-level properties of the source object
+	 * of a mapping. Before the first reference is mapped, the identifiers of all references are collected, grouped by
+	 * aggregate type and each group is looked up on the given {@link Executor}. Aggregates not resolved within the given
+	 * timeout are looked up sequentially during the mapping as usual. Note, that the lookups run outside of the calling
+	 * thread, i.e. without any thread bound resources like transactions.
+	 *
+	 * @param executor the {@link Executor} to look up the aggregates on, must not be {@literal null}.
+	 * @param concurrency the maximum number of concurrent lookups, must be greater than zero.
+	 * @param timeout the maximum time to wait for the lookups of a single mapping, must not be {@literal null} or
+	 *          negative.
+	 * @return will never be {@literal null}.
+	 */
+	public AggregateMappingModule parallelResolution(Executor executor, int concurrency, Duration timeout) {
+
+		assertConfigurable();
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+		Assert.notNull(timeout, "Timeout must not be null!");
+		Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative!");
+
+		this.parallelResolution = ParallelAggregateResolver.Settings.of(executor, concurrency, timeout);
+
+		return this;
+	}
+
+	/**
+	 * Registers the {@link AggregateMappingMetrics} to record the identifier processing, conversions and repository
+	 * lookups with. Has to be configured before the module is registered with a {@link ModelMapper}.
+	 *
+	 * @param metrics must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MicrometerAggregateMappingMetrics
+	 */
+	public AggregateMappingModule metrics(AggregateMappingMetrics metrics) {
+
+		assertConfigurable();
+		Assert.notNull(metrics, "AggregateMappingMetrics must not be null!");
+
+		this.metrics = metrics;
+
+		return this;
+	}
+
+	/**
+	 * Creates an {@link AggregateReferenceValidator} to verify the existence of the aggregates referred to by source
+	 * objects to be mapped with the given {@link ModelMapper}, without loading them.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public AggregateReferenceValidator createValidator(ModelMapper mapper) {
+
+		Assert.notNull(mapper, "ModelMapper must not be null!");
+
+		return new AggregateReferenceValidator(mapper, getPlans()::get, rejectionStackTraces);
+	}
+
+	/**
+	 * Creates a {@link BulkAggregateMapper} to lazily map large numbers of source objects with the given
+	 * {@link ModelMapper}, reading at most the given number of source objects at a time and resolving the aggregates
+	 * referred to in chunks of at most the given number of identifiers per aggregate type.
+	 *
+	 * @param mapper must not be {@literal null}, the current module has to be registered with it.
+	 * @param chunkSize must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	public BulkAggregateMapper createBulkMapper(ModelMapper mapper, int chunkSize) {
+
+		Assert.notNull(mapper, "ModelMapper must not be null!");
+
+		return new BulkAggregateMapper(mapper, getPlans()::get, chunkSize);
+	}
+
+	/**
+	 * Creates a {@link ReactiveAggregateMapper} to map source objects with the given {@link ModelMapper} without
+	 * blocking the calling thread for aggregate lookups. Requires Project Reactor to be on the classpath.
+	 *
+	 * @param mapper must not be {@literal null}, the current module has to be registered with it.
+	 * @return will never be {@literal null}.
+	 */
+	public ReactiveAggregateMapper createReactiveMapper(ModelMapper mapper) {
+
+		Assert.notNull(mapper, "ModelMapper must not be null!");
+
+		return new ReactiveAggregateMapper(mapper, getPlans()::get, repositories);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.modelmapper.Module#setupModule(org.modelmapper.ModelMapper)
@@ -146,116 +428,634 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 	@Override
 	public void setupModule(ModelMapper mapper) {
 
+		AggregateResolutionPlans plans = getPlans();
+		ParallelAggregateResolver resolver = parallelResolution == null
+				? null
+				: new ParallelAggregateResolver(parallelResolution, plans::get);
+
+		// Converters dedicated to a single aggregate type, so that neither needs to look up the plan per conversion
+		plans.forEach(plan -> {
+
+			Class<Object> aggregateType = (Class<Object>) plan.getAggregateType();
+			AggregateConverter toAggregate = new AggregateConverter(plan, resolver);
+
+			plan.getIdentifierTypes().forEach(it -> {
+
+				Class<Object> identifierType = (Class<Object>) it;
+
+				mapper.addConverter(toAggregate, identifierType, aggregateType);
+				mapper.addConverter(new IdentifierConverter(plan, identifierType), aggregateType, identifierType);
+			});
+		});
+
+		List<ConditionalConverter<?, ?>> converters = mapper.getConfiguration().getConverters();
+
+		converters.stream()
+				.filter(it -> !MatchResult.NONE.equals(it.match(List.class, List.class)))
+				.findFirst()
+				.map(it -> new AggregateCollectionConverter((ConditionalConverter<Object, Object>) it, plans, resolver))
+				.ifPresent(it -> converters.add(0, it));
+	}
+
+	/**
+	 * Returns the {@link AggregateResolutionPlan}s for all aggregates managed by repositories, except the excluded ones.
+	 * They're computed once, so that the module's configuration has to be completed before the module is registered
+	 * with a {@link ModelMapper}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private synchronized AggregateResolutionPlans getPlans() {
+
+		if (plans == null) {
+			plans = createPlans();
+		}
+
+		return plans;
+	}
+
+	/**
+	 * Rejects configuration changes once the {@link AggregateResolutionPlan}s have been computed, as they would be
+	 * silently ignored otherwise.
+	 *
+	 * @throws IllegalStateException in case the plans have already been computed.
+	 */
+	private synchronized void assertConfigurable() {
+		Assert.state(plans == null, "Module must be configured before it is registered with a ModelMapper!");
+	}
+
+	/**
+	 * Computes the {@link AggregateResolutionPlan}s for all aggregates managed by repositories, except the excluded
+	 * ones.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private AggregateResolutionPlans createPlans() {
+
 		PluginRegistry<AggregateIdentifierProcessor, Class<?>> registry = PluginRegistry.of(processors);
+		Map<Class<?>, AggregateResolutionPlan> plans = new HashMap<>();
+
+		repositories.forEach(type -> {
 
-		@SuppressWarnings("rawtypes")
-		Converter converter = new Converter<Object, Object>() {
+			if (exclusions.stream().anyMatch(type::isAssignableFrom)) {
+				return;
+			}
 
-			@Override
-			@Nullable
-			public Object convert(MappingContext<Object, Object> context) {
+			PersistentEntity<?, ?> information = repositories.getPersistentEntity(type);
 
-				Class<?> destinationType = context.getDestinationType();
-				PersistentEntity<?, ?> information = repositories.getPersistentEntity(destinationType);
-				Object source = context.getSource();
+			AggregateResolutionPlan plan = AggregateResolutionPlan.of(information,
+					registry.getPluginFor(type).orElse(null),
+					invokerFactory.getInvokerFor(type),
+					repositories.getRepositoryFor(type).orElse(null),
+					repositories.getRequiredRepositoryInformation(type).isReactiveRepository(),
+					nullHandling.getOrDefault(type, defaultNullHandling),
+					referenceHandling.getOrDefault(type, ReferenceHandling.EAGER),
+					caches.get(type),
+					misses.get(type),
+					conversions,
+					metrics,
+					rejectionStackTraces);
+
+			plans.put(plan.getAggregateType(), plan);
+		});
 
-				if (source == null) {
-					return handleNull(null, context);
-				}
+		return new AggregateResolutionPlans(plans);
+	}
 
-				// Pre-process source identifier
-				Object identifier = registry.getPluginFor(destinationType)
-						.map(it -> it.preProcessIdentifier(source, destinationType))
-						.orElse(source);
+	/**
+	 * Looks up the aggregate of the given type and identifier, consulting the aggregates resolved upfront and the
+	 * identity map if enabled.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @param resolver the {@link ParallelAggregateResolver} if enabled, can be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	private Object findById(Object id, AggregateResolutionPlan plan, MappingContext<?, ?> context,
+			@Nullable ParallelAggregateResolver resolver) {
 
-				// Convert into domain identifier
-				Object domainId = Arrays.asList(UUID.class, String.class).contains(identifier.getClass())
-						? conversions.convert(identifier, information.getRequiredIdProperty().getType())
-						: source;
+		Class<?> aggregateType = plan.getAggregateType();
+		ResolvedAggregates resolvedUpfront = ResolvedAggregates.current();
 
-				// Translate into aggregate instance
-				RepositoryInvoker invoker = invokerFactory.getInvokerFor(destinationType);
+		if (resolvedUpfront != null && resolvedUpfront.contains(aggregateType, id)) {
+			return resolvedUpfront.get(aggregateType, id);
+		}
+
+		AggregateIdentityMap prefetched = resolver == null ? null : resolver.getFor(context);
+		Object resolved = prefetched == null ? null : prefetched.get(aggregateType, id);
 
-				Object result = Optional.ofNullable(domainId)
-						.flatMap(it -> invoker.invokeFindById(it))
-						.orElse(null);
+		if (resolved != null) {
+			return resolved;
+		}
+
+		AggregateIdentityMap identityMap = identityMaps == null ? null : identityMaps.getFor(context);
+		Object cached = identityMap == null ? null : identityMap.get(aggregateType, id);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		Object result = plan.findById(id);
+
+		if (result != null && identityMap != null) {
+			identityMap.put(aggregateType, id, result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Applies the {@link NullHandling} configured for the given aggregate type.
+	 *
+	 * @param id the identifier that could not be resolved, can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @param context the {@link MappingContext} to obtain the property path from, must not be {@literal null}.
+	 * @return will always be {@literal null} unless an exception is thrown.
+	 */
+	@Nullable
+	private static Object handleNull(@Nullable Object id, AggregateResolutionPlan plan, MappingContext<?, ?> context) {
+
+		if (isRejected(plan)) {
+			throw plan.reject(context.getMapping().getPath(), id);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Records an unresolved reference for the given {@link AggregateResolutionPlan} and returns whether it has to be
+	 * rejected according to the configured {@link NullHandling}.
+	 *
+	 * @param plan must not be {@literal null}.
+	 * @return whether the unresolved reference has to be rejected.
+	 */
+	private static boolean isRejected(AggregateResolutionPlan plan) {
+
+		AggregateMappingMetrics metrics = plan.getMetrics();
+		Class<?> aggregateType = plan.getAggregateType();
+
+		metrics.unresolved(aggregateType);
+
+		if (!plan.getNullHandling().equals(NullHandling.THROW_EXCEPTION)) {
+			return false;
+		}
+
+		metrics.rejected(aggregateType);
+
+		return true;
+	}
+
+	/**
+	 * Returns the path of the property mapping the given {@link MappingContext} or its closest parent belongs to.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static String getPath(MappingContext<?, ?> context) {
+
+		for (MappingContext<?, ?> current = context; current != null; current = current.getParent()) {
+
+			Mapping mapping = current.getMapping();
+
+			if (mapping != null) {
+
+				String path = mapping.getPath();
+
+				return path.endsWith(".") ? path.substring(0, path.length() - 1) : path;
+			}
+		}
+
+		return "";
+	}
+
+	/**
+	 * A {@link ClassValue} of {@link AggregateResolutionPlan}s by aggregate type. Types not explicitly known, like
+	 * subclasses or proxies, are resolved against the known ones once and memoized.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class AggregateResolutionPlans extends ClassValue<AggregateResolutionPlan> {
+
+		private final Map<Class<?>, AggregateResolutionPlan> plans;
+
+		AggregateResolutionPlans(Map<Class<?>, AggregateResolutionPlan> plans) {
+			this.plans = Map.copyOf(plans);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.ClassValue#computeValue(java.lang.Class)
+		 */
+		@Nullable
+		@Override
+		protected AggregateResolutionPlan computeValue(Class<?> type) {
+
+			AggregateResolutionPlan plan = plans.get(type);
+
+			if (plan != null) {
+				return plan;
+			}
+
+			return plans.values().stream()
+					.filter(it -> it.getAggregateType().isAssignableFrom(type))
+					.findFirst()
+					.orElse(null);
+		}
+
+		void forEach(Consumer<AggregateResolutionPlan> consumer) {
+			plans.values().forEach(consumer);
+		}
+	}
+
+	/**
+	 * A {@link Converter} to resolve identifiers into aggregates of a single type.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private class AggregateConverter implements Converter<Object, Object> {
+
+		private final AggregateResolutionPlan plan;
+		private final Class<?> aggregateType;
+		private final @Nullable ParallelAggregateResolver resolver;
+
+		AggregateConverter(AggregateResolutionPlan plan, @Nullable ParallelAggregateResolver resolver) {
+
+			this.plan = plan;
+			this.aggregateType = plan.getAggregateType();
+			this.resolver = resolver;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.Converter#convert(org.modelmapper.spi.MappingContext)
+		 */
+		@Override
+		@Nullable
+		public Object convert(MappingContext<Object, Object> context) {
+
+			Object source = context.getSource();
+
+			if (source == null) {
+				return handleNull(null, context);
+			}
+
+			long start = plan.nanoTime();
+
+			try {
+
+				Object domainId = plan.toDomainIdentifier(source);
+
+				if (domainId != null && plan.isLazy()) {
+					return plan.getReference(domainId, getPath(context));
+				}
+
+				// Translate into aggregate instance
+				Object result = domainId == null ? null : findById(domainId, plan, context, resolver);
 
 				return result == null ? handleNull(domainId, context) : result;
+
+			} finally {
+				plan.getMetrics().converted(aggregateType, plan.nanoTime() - start);
 			}
+		}
 
-			@Nullable
-			private Object handleNull(@Nullable Object id, MappingContext<?, ?> context) {
+		@Nullable
+		private Object handleNull(@Nullable Object id, MappingContext<?, ?> context) {
 
-				Class<?> destinationType = context.getDestinationType();
-				NullHandling handling = Optional.ofNullable(nullHandling.get(destinationType)).orElse(defaultNullHandling);
+			Class<?> type = context.getParent().getSourceType();
 
-				if (handling.equals(NullHandling.THROW_EXCEPTION)) {
+			boolean isCollection = Collection.class.isAssignableFrom(type);
+			MappingContext<?, ?> mappingContext = isCollection ? context.getParent() : context;
 
-					Class<?> type = context.getParent().getSourceType();
+			return AggregateMappingModule.handleNull(id, plan, mappingContext);
+		}
+	}
 
-					boolean isCollection = Collection.class.isAssignableFrom(type);
-					MappingContext<?, ?> mappingContext = isCollection ? context.getParent() : context;
-					Mapping mapping = mappingContext.getMapping();
+	/**
+	 * A {@link Converter} to turn aggregates of a single type into identifiers of a single type.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class IdentifierConverter implements Converter<Object, Object> {
 
-					throw new AggregateReferenceMappingException(mapping.getPath(), id, destinationType);
+		private final AggregateResolutionPlan plan;
+		private final Class<?> identifierType;
+
+		IdentifierConverter(AggregateResolutionPlan plan, Class<?> identifierType) {
+
+			this.plan = plan;
+			this.identifierType = identifierType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.Converter#convert(org.modelmapper.spi.MappingContext)
+		 */
+		@Override
+		@Nullable
+		public Object convert(MappingContext<Object, Object> context) {
+
+			Object source = context.getSource();
+
+			return source == null ? null : plan.toExternalIdentifier(source, identifierType);
+		}
+	}
+
+	/**
+	 * A {@link ConditionalConverter} to map collections of identifiers into collections of aggregates. Instead of
+	 * resolving each element individually, all identifiers of the source collection are resolved with a single
+	 * {@link CrudRepository#findAllById(Iterable)} call. Collections of any other element type are handed to the
+	 * {@link ConditionalConverter} originally registered for collections.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private class AggregateCollectionConverter implements ConditionalConverter<Object, Object> {
+
+		private final ConditionalConverter<Object, Object> delegate;
+		private final AggregateResolutionPlans plans;
+		private final @Nullable ParallelAggregateResolver resolver;
+
+		AggregateCollectionConverter(ConditionalConverter<Object, Object> delegate, AggregateResolutionPlans plans,
+				@Nullable ParallelAggregateResolver resolver) {
+
+			this.delegate = delegate;
+			this.plans = plans;
+			this.resolver = resolver;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.spi.ConditionalConverter#match(java.lang.Class, java.lang.Class)
+		 */
+		@Override
+		public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+			return delegate.match(sourceType, destinationType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.Converter#convert(org.modelmapper.spi.MappingContext)
+		 */
+		@Override
+		@Nullable
+		public Object convert(MappingContext<Object, Object> context) {
+
+			Object source = context.getSource();
+			AggregateResolutionPlan plan = getAggregateElementPlan(context);
+
+			if (source == null || plan == null || !(source instanceof Iterable<?> elements)
+					|| !containsIdentifiers(elements, plan)) {
+				return delegate.convert(context);
+			}
+
+			long start = plan.nanoTime();
+
+			try {
+				return convert(source, plan, context);
+			} finally {
+				plan.getMetrics().converted(plan.getAggregateType(), plan.nanoTime() - start);
+			}
+		}
+
+		private Collection<Object> convert(Object source, AggregateResolutionPlan plan, MappingContext<?, ?> context) {
+
+			if (failureReporting.equals(FailureReporting.COLLECT)) {
+				return convertCollectingFailures(source, plan, context);
+			}
+
+			// Gather identifiers
+			List<Object> identifiers = new ArrayList<>();
+
+			for (Object element : (Iterable<?>) source) {
+				identifiers.add(element == null ? null : plan.toDomainIdentifier(element));
+			}
+
+			Map<Object, Object> aggregates = plan.isLazy()
+					? getReferences(identifiers, plan, context)
+					: findAllById(identifiers, plan, context);
+
+			// Assemble result in source order
+			Collection<Object> result = CollectionFactory.createCollection(context.getDestinationType(),
+					plan.getAggregateType(), identifiers.size());
+
+			for (Object identifier : identifiers) {
+
+				Object aggregate = identifier == null ? null : aggregates.get(identifier);
+
+				result.add(aggregate == null ? handleNull(identifier, plan, context) : aggregate);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Converts the given source collection like {@link #convert(Object, AggregateResolutionPlan, MappingContext)} but
+		 * reports all rejected elements, including the ones whose identifier cannot be converted, with a single
+		 * {@link AggregateReferenceMappingException}.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param plan must not be {@literal null}.
+		 * @param context must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		private Collection<Object> convertCollectingFailures(Object source, AggregateResolutionPlan plan,
+				MappingContext<?, ?> context) {
+
+			List<Object> elements = new ArrayList<>();
+			List<Object> identifiers = new ArrayList<>();
+
+			for (Object element : (Iterable<?>) source) {
+
+				Object identifier;
+
+				try {
+					identifier = element == null ? null : plan.toDomainIdentifier(element);
+				} catch (RuntimeException o_O) {
+					identifier = null;
+				}
+
+				elements.add(element);
+				identifiers.add(identifier);
+			}
+
+			Map<Object, Object> aggregates = plan.isLazy()
+					? getReferences(identifiers, plan, context)
+					: findAllById(identifiers, plan, context);
+
+			String path = getPath(context);
+			List<FailedReference> failures = new ArrayList<>();
+			Collection<Object> result = CollectionFactory.createCollection(context.getDestinationType(),
+					plan.getAggregateType(), identifiers.size());
+
+			for (int i = 0; i < identifiers.size(); i++) {
+
+				Object identifier = identifiers.get(i);
+				Object aggregate = identifier == null ? null : aggregates.get(identifier);
+
+				if (aggregate == null && isRejected(plan)) {
+
+					Object element = elements.get(i);
+
+					failures.add(FailedReference.of(path + "[" + i + "]", identifier == null ? element : identifier,
+							plan.getAggregateType()));
+				}
+
+				result.add(aggregate);
+			}
+
+			if (!failures.isEmpty()) {
+				throw new AggregateReferenceMappingException(failures, rejectionStackTraces);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns whether all elements of the given source are identifiers of the plan's aggregate, so that the
+		 * collection can be resolved in bulk. Any other source, e.g. a collection of aggregates or of DTOs to be mapped
+		 * onto aggregates, is left to the delegate converter.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param plan must not be {@literal null}.
+		 * @return whether the source only contains identifiers.
+		 */
+		private boolean containsIdentifiers(Iterable<?> source, AggregateResolutionPlan plan) {
+
+			for (Object element : source) {
+				if (element != null && !plan.isIdentifier(element)) {
+					return false;
 				}
+			}
+
+			return true;
+		}
 
+		@Nullable
+		private AggregateResolutionPlan getAggregateElementPlan(MappingContext<?, ?> context) {
+
+			if (!Collection.class.isAssignableFrom(context.getDestinationType())) {
 				return null;
 			}
-		};
 
-		@SuppressWarnings("rawtypes")
-		Converter toStringOrUuidConverter = new Converter<Object, Object>() {
+			Class<?> elementType = ResolvableType.forType(context.getGenericDestinationType())
+					.asCollection()
+					.resolveGeneric(0);
+
+			// ModelMapper hands out the raw property type, so fall back to the destination property's generic type
+			if (elementType == null && context.getMapping() != null) {
 
-			@Override
-			@Nullable
-			public Object convert(MappingContext<Object, Object> context) {
+				elementType = ResolvableType.forType(context.getMapping().getLastDestinationProperty().getGenericType())
+						.asCollection()
+						.resolveGeneric(0);
+			}
 
-				Object source = context.getSource();
-				Class<?> sourceType = context.getSourceType();
-				Class<?> targetType = context.getDestinationType();
+			return elementType == null ? null : plans.get(elementType);
+		}
 
-				Object id = repositories.getPersistentEntity(source.getClass())
-						.getIdentifierAccessor(source)
-						.getRequiredIdentifier();
+		/**
+		 * Creates lazy references for all given identifiers.
+		 *
+		 * @param identifiers must not be {@literal null}.
+		 * @param plan must not be {@literal null}.
+		 * @param context must not be {@literal null}.
+		 * @return the references by their identifier.
+		 */
+		private Map<Object, Object> getReferences(List<Object> identifiers, AggregateResolutionPlan plan,
+				MappingContext<?, ?> context) {
 
-				Object processed = registry.getPluginFor(sourceType)
-						.map(it -> it.postProcessIdentifier(id, sourceType, targetType))
-						.orElse(id);
+			String path = getPath(context);
+			Map<Object, Object> result = new HashMap<>(identifiers.size());
 
-				return targetType.isInstance(processed)
-						? processed
-						: conversions.convert(processed, targetType);
+			for (Object identifier : identifiers) {
+				if (identifier != null) {
+					result.computeIfAbsent(identifier, it -> plan.getReference(it, path));
+				}
 			}
-		};
 
-		repositories.forEach(type -> {
+			return result;
+		}
 
-			if (exclusions.stream().anyMatch(type::isAssignableFrom)) {
-				return;
+		/**
+		 * Resolves all aggregates for the given identifiers. Aggregates already resolved upfront or contained in the
+		 * identity map, if enabled, are not looked up again.
+		 *
+		 * @param identifiers must not be {@literal null}.
+		 * @param plan must not be {@literal null}.
+		 * @param context must not be {@literal null}.
+		 * @return the resolved aggregates by their identifier.
+		 */
+		private Map<Object, Object> findAllById(List<Object> identifiers, AggregateResolutionPlan plan,
+				MappingContext<?, ?> context) {
+
+			Set<Object> ids = new LinkedHashSet<>(identifiers);
+			ids.remove(null);
+
+			Class<?> aggregateType = plan.getAggregateType();
+			Map<Object, Object> result = new HashMap<>(ids.size());
+			ResolvedAggregates resolvedUpfront = ResolvedAggregates.current();
+
+			if (resolvedUpfront != null) {
+
+				for (Iterator<Object> iterator = ids.iterator(); iterator.hasNext();) {
+
+					Object id = iterator.next();
+
+					if (resolvedUpfront.contains(aggregateType, id)) {
+
+						Object aggregate = resolvedUpfront.get(aggregateType, id);
+
+						if (aggregate != null) {
+							result.put(id, aggregate);
+						}
+
+						iterator.remove();
+					}
+				}
 			}
 
-			PersistentEntity<?, ?> information = repositories.getPersistentEntity(type);
-			Class<?> domainIdType = information.getRequiredIdProperty().getType();
-			Set<Class<?>> idTypes = new HashSet<Class<?>>();
+			AggregateIdentityMap prefetched = resolver == null ? null : resolver.getFor(context);
+			AggregateIdentityMap identityMap = identityMaps == null ? null : identityMaps.getFor(context);
 
-			idTypes.addAll(Arrays.asList(UUID.class, String.class));
-			idTypes.add(domainIdType);
+			for (AggregateIdentityMap map : Arrays.asList(prefetched, identityMap)) {
 
-			registry.getPluginFor(type)
-					.map(AggregateIdentifierProcessor::getAdditionalIdentifierTypes)
-					.ifPresent(idTypes::addAll);
+				if (map == null) {
+					continue;
+				}
 
-			idTypes.forEach(it -> {
+				for (Iterator<Object> iterator = ids.iterator(); iterator.hasNext();) {
 
-				mapper.addConverter(converter, it, information.getType());
-				mapper.addConverter(toStringOrUuidConverter, information.getType(), it);
-			});
-		});
+					Object id = iterator.next();
+					Object cached = map.get(aggregateType, id);
+
+					if (cached != null) {
+						result.put(id, cached);
+						iterator.remove();
+					}
+				}
+			}
+
+			if (ids.isEmpty()) {
+				return result;
+			}
+
+			Map<Object, Object> loaded = plan.findAllById(ids);
+
+			if (identityMap != null) {
+				loaded.forEach((id, aggregate) -> identityMap.put(aggregateType, id, aggregate));
+			}
+
+			result.putAll(loaded);
+
+			return result;
+		}
 	}
 
 	/**
-	 * A {@link MappingException} being thrown in case no aggregate can be resolved for a given source value.
+	 * A {@link MappingException} being thrown in case no aggregate can be resolved for a given source value. Might
+	 * report multiple {@link FailedReference}s at once, in which case path, source and target type refer to the first
+	 * one. The messages are only rendered when requested and the stack trace is omitted if disabled via
+	 * {@link AggregateMappingModule#rejectionStackTraces(boolean)}, as rejections are usually caused by invalid input.
 	 *
 	 * @author Oliver Drotbohm
 	 */
@@ -267,16 +1067,111 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 		private final String path;
 		private final Object source;
 		private final Class<?> targetType;
-		private final String message;
+		private final List<FailedReference> failedReferences;
+		private transient @Nullable List<ErrorMessage> errorMessages;
 
 		public AggregateReferenceMappingException(String path, @Nullable Object source, Class<?> targetType) {
+			this(path, source, targetType, true);
+		}
+
+		/**
+		 * Creates a new {@link AggregateReferenceMappingException} for the given {@link FailedReference}s.
+		 *
+		 * @param failedReferences must not be {@literal null} or empty.
+		 */
+		public AggregateReferenceMappingException(List<FailedReference> failedReferences) {
+			this(failedReferences, true);
+		}
+
+		AggregateReferenceMappingException(String path, @Nullable Object source, Class<?> targetType,
+				boolean stackTrace) {
+			this(List.of(FailedReference.of(cleanUp(path), source, targetType)), stackTrace);
+		}
+
+		AggregateReferenceMappingException(List<FailedReference> failedReferences, boolean stackTrace) {
+
+			super(Collections.emptyList());
+
+			Assert.notEmpty(failedReferences, "Failed references must not be null or empty!");
 
-			super(Arrays.asList(new ErrorMessage(message(targetType, source))));
+			FailedReference first = failedReferences.get(0);
+
+			this.path = first.getPath();
+			this.source = first.getSource();
+			this.targetType = first.getTargetType();
+			this.failedReferences = List.copyOf(failedReferences);
+
+			if (stackTrace) {
+				super.fillInStackTrace();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Throwable#getMessage()
+		 */
+		@Override
+		public String getMessage() {
+			return failedReferences.get(0).getMessage();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.MappingException#getErrorMessages()
+		 */
+		@Override
+		public synchronized Collection<ErrorMessage> getErrorMessages() {
+
+			if (errorMessages == null) {
+
+				List<ErrorMessage> messages = new ArrayList<>(failedReferences.size());
+
+				for (FailedReference reference : failedReferences) {
+					messages.add(new ErrorMessage(reference.getMessage()));
+				}
+
+				this.errorMessages = messages;
+			}
+
+			return errorMessages;
+		}
+
+		/**
+		 * Skips the stack trace capture during construction, it's captured explicitly if requested.
+		 *
+		 * @see java.lang.Throwable#fillInStackTrace()
+		 */
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+		/**
+		 * Combines the {@link FailedReference}s of all {@link AggregateReferenceMappingException}s reported by the given
+		 * {@link MappingException} into a single {@link AggregateReferenceMappingException}.
+		 *
+		 * @param exception must not be {@literal null}.
+		 * @return will never be {@literal null}, {@link Optional#empty()} in case the given {@link MappingException}
+		 *         does not report any failed references.
+		 */
+		public static Optional<AggregateReferenceMappingException> of(MappingException exception) {
+
+			Assert.notNull(exception, "MappingException must not be null!");
+
+			List<FailedReference> failedReferences = new ArrayList<>();
+
+			for (ErrorMessage message : exception.getErrorMessages()) {
+
+				Throwable cause = message.getCause();
+
+				if (cause instanceof AggregateReferenceMappingException) {
+					failedReferences.addAll(((AggregateReferenceMappingException) cause).getFailedReferences());
+				}
+			}
 
-			this.path = cleanUp(path);
-			this.source = source;
-			this.targetType = targetType;
-			this.message = message(targetType, source);
+			return failedReferences.isEmpty()
+					? Optional.empty()
+					: Optional.of(new AggregateReferenceMappingException(failedReferences));
 		}
 
 		private static String message(Class<?> targetType, @Nullable Object source) {
@@ -286,6 +1181,141 @@ public class AggregateMappingModule implements org.modelmapper.Module {
 		private static String cleanUp(String path) {
 			return !path.contains(".") ? path : path.substring(0, path.indexOf('.'));
 		}
+
+		/**
+		 * A source value that could not be resolved into an aggregate.
+		 *
+		 * @author Oliver Drotbohm
+		 */
+		@Value(staticConstructor = "of")
+		public static class FailedReference implements Serializable {
+
+			private static final long serialVersionUID = -3279478337040826371L;
+
+			/**
+			 * The path of the property the source value was supposed to be mapped to.
+			 */
+			String path;
+
+			/**
+			 * The source value that could not be resolved.
+			 */
+			@Nullable Object source;
+
+			/**
+			 * The aggregate type the source value was supposed to be resolved into.
+			 */
+			Class<?> targetType;
+
+			/**
+			 * Returns a human readable message describing the failed reference.
+			 *
+			 * @return will never be {@literal null}.
+			 */
+			public String getMessage() {
+				return message(targetType, source);
+			}
+		}
+	}
+
+	/**
+	 * The scope of the identity map enabled via {@link AggregateMappingModule#identityMap(IdentityMapScope, int)}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	public enum IdentityMapScope {
+
+		/**
+		 * Aggregates are shared within a single {@link ModelMapper#map(Object, Class)} invocation.
+		 */
+		MAPPING,
+
+		/**
+		 * Aggregates are shared within the current web request. Falls back to {@link #MAPPING} if no request is bound to
+		 * the current thread.
+		 */
+		REQUEST;
+	}
+
+	/**
+	 * Hit and miss counts of the identity map enabled via
+	 * {@link AggregateMappingModule#identityMap(IdentityMapScope, int)}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	public static class IdentityMapStatistics {
+
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		IdentityMapStatistics() {}
+
+		/**
+		 * Returns the number of identifiers resolved from the identity map.
+		 *
+		 * @return the number of hits.
+		 */
+		public long getHits() {
+			return hits.sum();
+		}
+
+		/**
+		 * Returns the number of identifiers that had to be looked up from the repository.
+		 *
+		 * @return the number of misses.
+		 */
+		public long getMisses() {
+			return misses.sum();
+		}
+
+		void record(boolean hit) {
+			(hit ? hits : misses).increment();
+		}
+	}
+
+	/**
+	 * How to resolve identifiers into aggregates.
+	 *
+	 * @author Oliver Drotbohm
+	 * @see AggregateMappingModule#referenceHandling(Class, ReferenceHandling)
+	 */
+	public enum ReferenceHandling {
+
+		/**
+		 * The aggregate is looked up from the repository during the mapping.
+		 */
+		EAGER,
+
+		/**
+		 * A reference to the aggregate is created that defers the lookup until its state is accessed. Uses the
+		 * repository's {@code getReferenceById(…)} method if available (e.g. for JPA) and a lazily initializing proxy
+		 * otherwise. As the existence of the aggregate is not verified during the mapping, {@link NullHandling} is not
+		 * applied. The proxy rejects references to non-existent aggregates with an
+		 * {@link AggregateReferenceMappingException} on first access instead.
+		 */
+		LAZY;
+	}
+
+	/**
+	 * How references rejected due to {@link NullHandling#THROW_EXCEPTION} are reported.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	public enum FailureReporting {
+
+		/**
+		 * Mapping a collection of references stops with an {@link AggregateReferenceMappingException} for the first
+		 * rejected element.
+		 */
+		FAIL_FAST,
+
+		/**
+		 * All rejected elements of a collection, including the ones whose identifier cannot be converted, are reported
+		 * with a single {@link AggregateReferenceMappingException} listing them as {@link FailedReference}s. Use
+		 * {@link AggregateReferenceMappingException#of(MappingException)} to combine the failures reported for all
+		 * properties of a mapping.
+		 */
+		COLLECT;
 	}
 
 	public enum NullHandling {
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.Value;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.modelmapper.TypeMap;
+import org.modelmapper.spi.Mapping;
+import org.modelmapper.spi.PropertyInfo;
+import org.modelmapper.spi.PropertyMapping;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Collects the references to aggregates held in the top-level properties of a source object by inspecting the
+ * property mappings of a {@link TypeMap} for destination properties of aggregate types or collections of those.
+ *
+ * @author Oliver Drotbohm
+ */
+class AggregateReferenceScanner {
+
+	private final Function<Class<?>, AggregateResolutionPlan> plans;
+
+	/**
+	 * Creates a new {@link AggregateReferenceScanner} using the given function to look up the
+	 * {@link AggregateResolutionPlan} for a destination type.
+	 *
+	 * @param plans must not be {@literal null}.
+	 */
+	AggregateReferenceScanner(Function<Class<?>, AggregateResolutionPlan> plans) {
+		this.plans = plans;
+	}
+
+	/**
+	 * Returns all aggregate references contained in the given source object, mapped using the given {@link TypeMap}.
+	 * Elements of collections are reported individually, indexed by their position.
+	 *
+	 * @param typeMap must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	List<AggregateReference> scan(TypeMap<?, ?> typeMap, Object source) {
+
+		List<AggregateReference> references = new ArrayList<>();
+
+		for (Mapping mapping : typeMap.getMappings()) {
+
+			if (mapping.isSkipped() || !(mapping instanceof PropertyMapping)) {
+				continue;
+			}
+
+			Object value = getValue((PropertyMapping) mapping, source);
+
+			if (value == null) {
+				continue;
+			}
+
+			String path = getPath(mapping);
+			PropertyInfo destination = mapping.getLastDestinationProperty();
+			Class<?> type = destination.getType();
+
+			if (value instanceof Iterable && Collection.class.isAssignableFrom(type)) {
+
+				Class<?> elementType = ResolvableType.forType(destination.getGenericType()).asCollection()
+						.resolveGeneric(0);
+				AggregateResolutionPlan plan = elementType == null ? null : plans.apply(elementType);
+
+				if (plan == null) {
+					continue;
+				}
+
+				int index = 0;
+
+				for (Object element : (Iterable<?>) value) {
+
+					if (element != null && !plan.getAggregateType().isInstance(element)) {
+						references.add(new AggregateReference(path + "[" + index + "]", plan, element));
+					}
+
+					index++;
+				}
+
+				continue;
+			}
+
+			AggregateResolutionPlan plan = plans.apply(type);
+
+			if (plan != null && !plan.getAggregateType().isInstance(value)) {
+				references.add(new AggregateReference(path, plan, value));
+			}
+		}
+
+		return references;
+	}
+
+	private static String getPath(Mapping mapping) {
+
+		String path = mapping.getPath();
+
+		return path.endsWith(".") ? path.substring(0, path.length() - 1) : path;
+	}
+
+	/**
+	 * Adds the domain identifiers of all aggregates referred to by the given source object to the given {@link Map},
+	 * grouped by the {@link AggregateResolutionPlan} of the target aggregate type. Source values that cannot be turned
+	 * into an identifier are skipped, so that they are rejected during the actual mapping.
+	 *
+	 * @param typeMap must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param identifiers must not be {@literal null}.
+	 */
+	void collectIdentifiers(TypeMap<?, ?> typeMap, Object source,
+			Map<AggregateResolutionPlan, Set<Object>> identifiers) {
+
+		for (AggregateReference reference : scan(typeMap, source)) {
+
+			AggregateResolutionPlan plan = reference.getPlan();
+
+			try {
+
+				Object identifier = plan.toDomainIdentifier(reference.getSource());
+
+				if (identifier != null) {
+					identifiers.computeIfAbsent(plan, __ -> new LinkedHashSet<>()).add(identifier);
+				}
+
+			} catch (RuntimeException o_O) {
+				// Invalid identifiers are rejected during the mapping pass
+			}
+		}
+	}
+
+	@Nullable
+	private static Object getValue(PropertyMapping mapping, Object source) {
+
+		Object current = source;
+
+		for (PropertyInfo property : mapping.getSourceProperties()) {
+
+			Member member = property.getMember();
+
+			if (member instanceof Field) {
+
+				Field field = (Field) member;
+
+				ReflectionUtils.makeAccessible(field);
+				current = ReflectionUtils.getField(field, current);
+
+			} else if (member instanceof Method) {
+
+				Method method = (Method) member;
+
+				ReflectionUtils.makeAccessible(method);
+				current = ReflectionUtils.invokeMethod(method, current);
+
+			} else {
+				return null;
+			}
+
+			if (current == null) {
+				return null;
+			}
+		}
+
+		return current;
+	}
+
+	/**
+	 * A reference to an aggregate found in a source object.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	static class AggregateReference {
+
+		/**
+		 * The path of the destination property the reference is mapped to.
+		 */
+		String path;
+
+		/**
+		 * The {@link AggregateResolutionPlan} of the referenced aggregate type.
+		 */
+		AggregateResolutionPlan plan;
+
+		/**
+		 * The source value identifying the aggregate.
+		 */
+		Object source;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.spring.data.AggregateMappingModule.AggregateReferenceMappingException;
+import org.modelmapper.spring.data.AggregateMappingModule.AggregateReferenceMappingException.FailedReference;
+import org.modelmapper.spring.data.AggregateReferenceScanner.AggregateReference;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Verifies that all aggregate references held in a source object point to existing aggregates without actually
+ * mapping it. The identifiers are grouped by aggregate type and each group is checked with a single query, preferably
+ * an {@link AggregateExistenceQuery} implemented by the repository. All unresolvable references are reported at once.
+ *
+ * @author Oliver Drotbohm
+ * @see AggregateMappingModule#createValidator(ModelMapper)
+ */
+public class AggregateReferenceValidator {
+
+	private final ModelMapper mapper;
+	private final AggregateReferenceScanner scanner;
+	private final boolean stackTraces;
+
+	/**
+	 * Creates a new {@link AggregateReferenceValidator} for the given {@link ModelMapper} and
+	 * {@link AggregateResolutionPlan}s.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param plans must not be {@literal null}.
+	 * @param stackTraces whether the {@link AggregateReferenceMappingException}s thrown capture a stack trace.
+	 */
+	AggregateReferenceValidator(ModelMapper mapper, Function<Class<?>, AggregateResolutionPlan> plans,
+			boolean stackTraces) {
+
+		Assert.notNull(mapper, "ModelMapper must not be null!");
+		Assert.notNull(plans, "Plans must not be null!");
+
+		this.mapper = mapper;
+		this.scanner = new AggregateReferenceScanner(plans);
+		this.stackTraces = stackTraces;
+	}
+
+	/**
+	 * Verifies that all aggregates referred to by the given source object when mapped to the given destination type
+	 * exist.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param destinationType must not be {@literal null}.
+	 * @throws AggregateReferenceMappingException listing all references that cannot be resolved.
+	 */
+	public void validate(Object source, Class<?> destinationType) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(destinationType, "Destination type must not be null!");
+
+		// Atomically looks up or creates the TypeMap, as validation might run concurrently
+		List<AggregateReference> references = scanner.scan(mapper.typeMap(source.getClass(), destinationType), source);
+		Map<AggregateReference, Object> identifiers = new HashMap<>(references.size());
+		Map<AggregateResolutionPlan, Set<Object>> identifiersByPlan = new LinkedHashMap<>();
+
+		for (AggregateReference reference : references) {
+
+			Object id = toDomainIdentifier(reference);
+
+			if (id != null) {
+				identifiers.put(reference, id);
+				identifiersByPlan.computeIfAbsent(reference.getPlan(), __ -> new LinkedHashSet<>()).add(id);
+			}
+		}
+
+		Map<AggregateResolutionPlan, Set<Object>> existing = new HashMap<>(identifiersByPlan.size());
+		identifiersByPlan.forEach((plan, ids) -> existing.put(plan, plan.findExistingIds(ids)));
+
+		List<FailedReference> failures = new ArrayList<>();
+
+		for (AggregateReference reference : references) {
+
+			Object id = identifiers.get(reference);
+
+			if (id == null || !existing.get(reference.getPlan()).contains(id)) {
+				failures.add(toFailure(reference));
+			}
+		}
+
+		if (!failures.isEmpty()) {
+			throw new AggregateReferenceMappingException(failures, stackTraces);
+		}
+	}
+
+	@Nullable
+	private static Object toDomainIdentifier(AggregateReference reference) {
+
+		try {
+			return reference.getPlan().toDomainIdentifier(reference.getSource());
+		} catch (RuntimeException o_O) {
+			return null;
+		}
+	}
+
+	private static FailedReference toFailure(AggregateReference reference) {
+		return FailedReference.of(reference.getPath(), reference.getSource(), reference.getPlan().getAggregateType());
+	}
+}
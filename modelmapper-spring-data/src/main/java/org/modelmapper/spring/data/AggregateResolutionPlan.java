@@ -0,0 +1,491 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.modelmapper.spring.data.AggregateMappingModule.AggregateReferenceMappingException;
+import org.modelmapper.spring.data.AggregateMappingModule.NullHandling;
+import org.modelmapper.spring.data.AggregateMappingModule.ReferenceHandling;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * All information needed to resolve identifiers into aggregates of a particular type and vice versa, computed once
+ * when the {@link AggregateMappingModule} is set up, so that the actual conversions do not have to consult any
+ * registries.
+ *
+ * @author Oliver Drotbohm
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class AggregateResolutionPlan {
+
+	private final @Getter Class<?> aggregateType;
+	private final PersistentEntity<?, ?> entity;
+	private final DomainIdentifierConverter identifierConverter;
+	private final @Getter Set<Class<?>> identifierTypes;
+	private final @Nullable AggregateIdentifierProcessor processor;
+	private final RepositoryInvoker invoker;
+	private final @Nullable CrudRepository<Object, Object> repository;
+	private final @Nullable AggregateExistenceQuery<Object> existenceQuery;
+	private final boolean reactive;
+	private final @Getter NullHandling nullHandling;
+	private final ReferenceHandling referenceHandling;
+	private final @Nullable Method referenceLookup;
+	private final @Nullable LazyAggregateReferences references;
+	private final @Nullable AggregateCache cache;
+	private final @Nullable AggregateCache misses;
+	private final ConversionService conversions;
+	private final @Getter AggregateMappingMetrics metrics;
+	private final boolean rejectionStackTraces;
+
+	/**
+	 * Creates a new {@link AggregateResolutionPlan} for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param processor the {@link AggregateIdentifierProcessor} to apply, can be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param repository the repository backing the aggregate, can be {@literal null}.
+	 * @param reactive whether the repository is a reactive one that must not be invoked blockingly.
+	 * @param nullHandling must not be {@literal null}.
+	 * @param referenceHandling must not be {@literal null}.
+	 * @param cache the {@link AggregateCache} to consult before hitting the repository, can be {@literal null}.
+	 * @param misses the {@link AggregateCache} of identifiers known to not refer to an existing aggregate, can be
+	 *          {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @param metrics must not be {@literal null}.
+	 * @param rejectionStackTraces whether {@link AggregateReferenceMappingException}s capture a stack trace.
+	 * @return will never be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	static AggregateResolutionPlan of(PersistentEntity<?, ?> entity, @Nullable AggregateIdentifierProcessor processor,
+			RepositoryInvoker invoker, @Nullable Object repository, boolean reactive, NullHandling nullHandling,
+			ReferenceHandling referenceHandling, @Nullable AggregateCache cache, @Nullable AggregateCache misses,
+			ConversionService conversions, AggregateMappingMetrics metrics, boolean rejectionStackTraces) {
+
+		Class<?> idType = entity.getRequiredIdProperty().getType();
+
+		Set<Class<?>> identifierTypes = new LinkedHashSet<>();
+		identifierTypes.add(UUID.class);
+		identifierTypes.add(String.class);
+
+		// Register primitives alongside their wrappers, as source properties can be declared as either
+		identifierTypes.add(idType);
+		identifierTypes.add(ClassUtils.resolvePrimitiveIfNecessary(idType));
+
+		// Allow numeric identifiers of any width and the plain values of single-valued record identifiers
+		if (Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(idType))) {
+			identifierTypes.addAll(List.of(Long.class, long.class, Integer.class, int.class));
+		}
+
+		if (idType.isRecord() && idType.getRecordComponents().length == 1) {
+
+			Class<?> componentType = idType.getRecordComponents()[0].getType();
+
+			identifierTypes.add(componentType);
+			identifierTypes.add(ClassUtils.resolvePrimitiveIfNecessary(componentType));
+		}
+
+		if (processor != null) {
+			identifierTypes.addAll(processor.getAdditionalIdentifierTypes());
+		}
+
+		CrudRepository<Object, Object> crudRepository = repository instanceof CrudRepository
+				? (CrudRepository<Object, Object>) repository
+				: null;
+
+		AggregateExistenceQuery<Object> existenceQuery = repository instanceof AggregateExistenceQuery
+				? (AggregateExistenceQuery<Object>) repository
+				: null;
+
+		boolean lazy = ReferenceHandling.LAZY.equals(referenceHandling);
+
+		// Prefer a store specific reference lookup, e.g. JpaRepository.getReferenceById(…)
+		Method referenceLookup = crudRepository == null || !lazy
+				? null
+				: ReflectionUtils.findMethod(crudRepository.getClass(), "getReferenceById", Object.class);
+
+		LazyAggregateReferences references = !lazy || referenceLookup != null
+				? null
+				: new LazyAggregateReferences(entity.getType(), entity.getRequiredIdProperty().getGetter());
+
+		return new AggregateResolutionPlan(entity.getType(), entity, DomainIdentifierConverter.of(idType, conversions),
+				Collections.unmodifiableSet(identifierTypes), processor, invoker, crudRepository, existenceQuery, reactive,
+				nullHandling, referenceHandling, referenceLookup, references, cache, misses, conversions, metrics,
+				rejectionStackTraces);
+	}
+
+	/**
+	 * Returns the current value of {@link System#nanoTime()} to time operations with if metrics are recorded at all, so
+	 * that uninstrumented mappings don't pay for the timing.
+	 *
+	 * @return the current timestamp in nanoseconds or {@literal 0} if no metrics are recorded.
+	 */
+	long nanoTime() {
+		return metrics == AggregateMappingMetrics.NONE ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Pre-processes the given source identifier using the {@link AggregateIdentifierProcessor} registered for the
+	 * aggregate type and converts the result into the aggregate's identifier type.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Object toDomainIdentifier(Object source) {
+
+		long start = nanoTime();
+
+		// Pre-process source identifier
+		Object identifier = processor == null ? source : processor.preProcessIdentifier(source, aggregateType);
+
+		// Processor not able to extract an identifier, e.g. a plain one for a URI template
+		if (identifier == null) {
+			identifier = source;
+		}
+
+		// Convert into domain identifier
+		Object result = identifierConverter.convert(identifier);
+
+		metrics.identifierProcessed(aggregateType, nanoTime() - start);
+
+		return result;
+	}
+
+	/**
+	 * Turns the given aggregate into an identifier of the given target type, applying the
+	 * {@link AggregateIdentifierProcessor} registered for the aggregate type.
+	 *
+	 * @param aggregate must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Object toExternalIdentifier(Object aggregate, Class<?> targetType) {
+
+		Object id = identifierConverter.unwrap(getIdentifier(aggregate));
+		Object processed = processor == null ? id : processor.postProcessIdentifier(id, aggregateType, targetType);
+
+		return targetType.isInstance(processed)
+				? processed
+				: conversions.convert(processed, targetType);
+	}
+
+	/**
+	 * Returns the identifier of the given aggregate.
+	 *
+	 * @param aggregate must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Object getIdentifier(Object aggregate) {
+
+		Object identifier = references == null ? null : LazyAggregateReferences.getIdentifier(aggregate);
+
+		return identifier != null ? identifier : entity.getIdentifierAccessor(aggregate).getRequiredIdentifier();
+	}
+
+	/**
+	 * Returns whether the given source is an instance of one of the identifier types registered for the aggregate type,
+	 * i.e. whether it can be handed into {@link #toDomainIdentifier(Object)}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return whether the source is an identifier of the aggregate.
+	 */
+	boolean isIdentifier(Object source) {
+
+		for (Class<?> identifierType : identifierTypes) {
+			if (identifierType.isInstance(source)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns whether the aggregates are supposed to be resolved lazily.
+	 *
+	 * @return whether {@link ReferenceHandling#LAZY} is configured for the aggregate type.
+	 * @see #getReference(Object, String)
+	 */
+	boolean isLazy() {
+		return ReferenceHandling.LAZY.equals(referenceHandling);
+	}
+
+	/**
+	 * Returns a reference to the aggregate with the given identifier that defers the lookup until the aggregate's state
+	 * is accessed. Uses the repository's {@code getReferenceById(…)} method if available and a lazily initializing
+	 * proxy otherwise.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param path the path of the property the reference is mapped to, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Object getReference(Object id, String path) {
+
+		if (referenceLookup != null) {
+			return ReflectionUtils.invokeMethod(referenceLookup, repository, id);
+		}
+
+		return references.create(id, () -> {
+
+			Object aggregate = findById(id);
+
+			if (aggregate == null) {
+
+				metrics.rejected(aggregateType);
+
+				throw reject(path, id);
+			}
+
+			return aggregate;
+		});
+	}
+
+	/**
+	 * Creates an {@link AggregateReferenceMappingException} for the given identifier that cannot be resolved.
+	 *
+	 * @param path the path of the property referring to the aggregate, must not be {@literal null}.
+	 * @param id the identifier that cannot be resolved, can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	AggregateReferenceMappingException reject(String path, @Nullable Object id) {
+		return new AggregateReferenceMappingException(path, id, aggregateType, rejectionStackTraces);
+	}
+
+	/**
+	 * Looks up the aggregate with the given identifier, consulting the {@link AggregateCache}s of aggregates and misses
+	 * first if configured.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Object findById(Object id) {
+
+		long cacheGeneration = getGeneration(cache);
+		long missesGeneration = getGeneration(misses);
+
+		Object cached = cache == null ? null : cache.get(id);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		if (misses != null && misses.get(id) != null) {
+			return null;
+		}
+
+		assertBlockingLookupsSupported();
+
+		long start = nanoTime();
+		Object result = invoker.invokeFindById(id).orElse(null);
+		metrics.lookedUp(aggregateType, 1, nanoTime() - start);
+
+		if (result != null && cache != null) {
+			cache.put(id, result, cacheGeneration);
+		}
+
+		if (result == null && misses != null) {
+			misses.put(id, Boolean.TRUE, missesGeneration);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Looks up all aggregates with the given identifiers, consulting the {@link AggregateCache}s of aggregates and
+	 * misses first if configured. Uses {@link CrudRepository#findAllById(Iterable)} if the repository exposes it and
+	 * falls back to individual lookups otherwise.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @return the resolved aggregates by their identifier.
+	 */
+	Map<Object, Object> findAllById(Collection<Object> ids) {
+
+		long cacheGeneration = getGeneration(cache);
+		long missesGeneration = getGeneration(misses);
+
+		Map<Object, Object> result = new HashMap<>(ids.size());
+		Collection<Object> missing = ids;
+
+		if (cache != null || misses != null) {
+
+			missing = new ArrayList<>(ids.size());
+
+			for (Object id : ids) {
+
+				Object cached = cache == null ? null : cache.get(id);
+
+				if (cached != null) {
+					result.put(id, cached);
+				} else if (misses == null || misses.get(id) == null) {
+					missing.add(id);
+				}
+			}
+
+			if (missing.isEmpty()) {
+				return result;
+			}
+		}
+
+		if (repository != null) {
+
+			long start = nanoTime();
+			Iterable<Object> aggregates = repository.findAllById(missing);
+			metrics.lookedUp(aggregateType, missing.size(), nanoTime() - start);
+
+			for (Object aggregate : aggregates) {
+
+				Object id = getIdentifier(aggregate);
+
+				result.put(id, aggregate);
+
+				if (cache != null) {
+					cache.put(id, aggregate, cacheGeneration);
+				}
+			}
+
+			recordMisses(missing, result.keySet(), missesGeneration);
+
+			return result;
+		}
+
+		for (Object id : missing) {
+
+			Object aggregate = findById(id);
+
+			if (aggregate != null) {
+				result.put(id, aggregate);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the subset of the given identifiers that refer to existing aggregates. Uses the repository's
+	 * {@link AggregateExistenceQuery} for all identifiers not found in the {@link AggregateCache} if implemented and
+	 * falls back to {@link #findAllById(Collection)} otherwise.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Set<Object> findExistingIds(Collection<Object> ids) {
+
+		if (existenceQuery == null) {
+			return findAllById(ids).keySet();
+		}
+
+		long missesGeneration = getGeneration(misses);
+
+		Set<Object> result = new HashSet<>(ids.size());
+		Collection<Object> missing = ids;
+
+		if (cache != null || misses != null) {
+
+			missing = new ArrayList<>(ids.size());
+
+			for (Object id : ids) {
+
+				if (cache != null && cache.get(id) != null) {
+					result.add(id);
+				} else if (misses == null || misses.get(id) == null) {
+					missing.add(id);
+				}
+			}
+
+			if (missing.isEmpty()) {
+				return result;
+			}
+		}
+
+		long start = nanoTime();
+		result.addAll(existenceQuery.findExistingIds(missing));
+		metrics.lookedUp(aggregateType, missing.size(), nanoTime() - start);
+
+		recordMisses(missing, result, missesGeneration);
+
+		return result;
+	}
+
+	/**
+	 * Rejects blocking lookups of aggregates managed by a reactive repository, as invoking it would either block the
+	 * calling thread or produce a reactive wrapper instead of the aggregate. Those aggregates can only be resolved
+	 * upfront by a {@link ReactiveAggregateMapper}, i.e. if they're referred to by top-level properties.
+	 *
+	 * @throws IllegalStateException in case the aggregate is managed by a reactive repository.
+	 */
+	private void assertBlockingLookupsSupported() {
+
+		if (reactive) {
+			throw new IllegalStateException(String.format("%s is managed by a reactive repository and can only be "
+					+ "resolved for top-level properties by a ReactiveAggregateMapper!", aggregateType.getName()));
+		}
+	}
+
+	/**
+	 * Returns the current generation of the given {@link AggregateCache} to be captured before looking up aggregates,
+	 * so that results of lookups overlapping with an eviction are not cached.
+	 *
+	 * @param cache can be {@literal null}.
+	 * @return the current generation.
+	 */
+	private static long getGeneration(@Nullable AggregateCache cache) {
+		return cache == null ? 0 : cache.getGeneration();
+	}
+
+	/**
+	 * Registers all of the given looked up identifiers that have not been found as misses if enabled and the misses
+	 * have not been evicted since the given generation.
+	 *
+	 * @param requested must not be {@literal null}.
+	 * @param found must not be {@literal null}.
+	 * @param generation the generation of the misses captured before the lookup.
+	 */
+	private void recordMisses(Collection<Object> requested, Collection<Object> found, long generation) {
+
+		if (misses == null) {
+			return;
+		}
+
+		for (Object id : requested) {
+			if (!found.contains(id)) {
+				misses.put(id, Boolean.TRUE, generation);
+			}
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link LinkedHashMap} in access order that evicts the least recently used entry once the given maximum size is
+ * exceeded. Not thread-safe, so callers have to guard access themselves.
+ *
+ * @author Oliver Drotbohm
+ */
+class BoundedLruMap<K, V> extends LinkedHashMap<K, V> {
+
+	private static final long serialVersionUID = 5541391282620463573L;
+
+	private final int maxSize;
+
+	/**
+	 * Creates a new {@link BoundedLruMap} with the given maximum size.
+	 *
+	 * @param maxSize must be greater than zero.
+	 */
+	BoundedLruMap(int maxSize) {
+
+		super(16, 0.75f, true);
+
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero!");
+
+		this.maxSize = maxSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+	 */
+	@Override
+	protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+		return size() > maxSize;
+	}
+}
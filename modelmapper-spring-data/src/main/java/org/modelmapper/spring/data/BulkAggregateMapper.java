@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Maps large numbers of source objects referring to aggregates, e.g. the rows of a file to be imported. The source
+ * objects are consumed in chunks of at most the configured size, the aggregates referred to by a chunk are looked up
+ * with a single {@code findAllById(…)} call per aggregate type for at most the configured number of identifiers and
+ * the mapped objects are emitted lazily. Thus, only a single chunk of source objects, aggregates and mapped objects is held in
+ * memory at a time.
+ *
+ * @author Oliver Drotbohm
+ * @see AggregateMappingModule#createBulkMapper(ModelMapper, int)
+ */
+public class BulkAggregateMapper {
+
+	private final ModelMapper mapper;
+	private final AggregateReferenceScanner scanner;
+	private final int chunkSize;
+
+	/**
+	 * Creates a new {@link BulkAggregateMapper} for the given {@link ModelMapper}, {@link AggregateResolutionPlan}s and
+	 * chunk size.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param plans must not be {@literal null}.
+	 * @param chunkSize the maximum number of source objects per chunk and identifiers to look up per aggregate type and
+	 *          query, must be greater than zero.
+	 */
+	BulkAggregateMapper(ModelMapper mapper, Function<Class<?>, AggregateResolutionPlan> plans, int chunkSize) {
+
+		Assert.notNull(mapper, "ModelMapper must not be null!");
+		Assert.notNull(plans, "Plans must not be null!");
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+
+		this.mapper = mapper;
+		this.scanner = new AggregateReferenceScanner(plans);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Lazily maps all elements of the given {@link Stream} into instances of the given destination type, preserving
+	 * their order. Closing the returned {@link Stream} closes the given one.
+	 *
+	 * @param <T> the destination type.
+	 * @param sources must not be {@literal null}.
+	 * @param destinationType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public <T> Stream<T> map(Stream<?> sources, Class<T> destinationType) {
+
+		Assert.notNull(sources, "Sources must not be null!");
+
+		return map(sources.iterator(), destinationType).onClose(sources::close);
+	}
+
+	/**
+	 * Lazily maps all elements of the given {@link Iterator} into instances of the given destination type, preserving
+	 * their order.
+	 *
+	 * @param <T> the destination type.
+	 * @param sources must not be {@literal null}.
+	 * @param destinationType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public <T> Stream<T> map(Iterator<?> sources, Class<T> destinationType) {
+
+		Assert.notNull(sources, "Sources must not be null!");
+		Assert.notNull(destinationType, "Destination type must not be null!");
+
+		Iterator<T> results = new ChunkingIterator<>(sources, destinationType);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED), false);
+	}
+
+	/**
+	 * An {@link Iterator} reading the next chunk of source objects once all mapped objects of the current chunk have
+	 * been consumed.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private class ChunkingIterator<T> implements Iterator<T> {
+
+		private final Iterator<?> sources;
+		private final Class<T> destinationType;
+		private final Map<Class<?>, TypeMap<?, ?>> typeMaps;
+
+		private Iterator<T> current;
+		private @Nullable Object pending;
+
+		ChunkingIterator(Iterator<?> sources, Class<T> destinationType) {
+
+			this.sources = sources;
+			this.destinationType = destinationType;
+			this.typeMaps = new LinkedHashMap<>();
+			this.current = Collections.emptyIterator();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			if (!current.hasNext() && (pending != null || sources.hasNext())) {
+				current = mapNextChunk().iterator();
+			}
+
+			return current.hasNext();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return current.next();
+		}
+
+		/**
+		 * Reads source objects until either their number or the identifiers of any aggregate type reach the chunk size,
+		 * resolves all of them and maps the source objects read.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		private List<T> mapNextChunk() {
+
+			List<Object> chunk = new ArrayList<>();
+			Map<AggregateResolutionPlan, Set<Object>> identifiers = new LinkedHashMap<>();
+
+			while (chunk.size() < chunkSize && (pending != null || sources.hasNext())) {
+
+				Object source = pending != null ? pending : sources.next();
+				pending = null;
+
+				if (source == null) {
+					chunk.add(null);
+					continue;
+				}
+
+				Map<AggregateResolutionPlan, Set<Object>> references = new LinkedHashMap<>();
+				scanner.collectIdentifiers(getTypeMap(source), source, references);
+
+				// Lazily referenced aggregates are not supposed to be looked up at all
+				references.keySet().removeIf(AggregateResolutionPlan::isLazy);
+
+				// Defer to the next chunk if the current one would exceed the chunk size
+				if (!chunk.isEmpty() && exceedsChunkSize(identifiers, references)) {
+					pending = source;
+					break;
+				}
+
+				chunk.add(source);
+				references.forEach((plan, ids) -> {
+					identifiers.computeIfAbsent(plan, __ -> new LinkedHashSet<>()).addAll(ids);
+				});
+			}
+
+			ResolvedAggregates resolved = new ResolvedAggregates();
+
+			identifiers.forEach((plan, ids) -> {
+
+				List<Object> all = new ArrayList<>(ids);
+
+				// A single source object might refer to more aggregates than the chunk size
+				for (int i = 0; i < all.size(); i += chunkSize) {
+
+					List<Object> partition = all.subList(i, Math.min(all.size(), i + chunkSize));
+
+					resolved.register(plan.getAggregateType(), partition, plan.findAllById(partition));
+				}
+			});
+
+			return resolved.bind(() -> {
+
+				List<T> result = new ArrayList<>(chunk.size());
+
+				for (Object source : chunk) {
+					result.add(source == null ? null : mapper.map(source, destinationType));
+				}
+
+				return result;
+			});
+		}
+
+		private boolean exceedsChunkSize(Map<AggregateResolutionPlan, Set<Object>> identifiers,
+				Map<AggregateResolutionPlan, Set<Object>> additional) {
+
+			for (Map.Entry<AggregateResolutionPlan, Set<Object>> entry : additional.entrySet()) {
+
+				Set<Object> existing = identifiers.getOrDefault(entry.getKey(), Collections.emptySet());
+				long added = entry.getValue().stream().filter(it -> !existing.contains(it)).count();
+
+				if (existing.size() + added > chunkSize) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private TypeMap<?, ?> getTypeMap(Object source) {
+
+			// Atomically looks up or creates the TypeMap, as the ModelMapper might be used concurrently
+			return typeMaps.computeIfAbsent(source.getClass(), it -> mapper.typeMap(it, destinationType));
+		}
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Converts pre-processed source identifiers into an aggregate's identifier type. Numeric and {@link UUID} identifiers
+ * as well as records wrapping a single of those are converted directly, others via the {@link ConversionService}. The
+ * strategy is selected once per identifier type so that conversions neither need to inspect the target type nor box
+ * through the generic conversion infrastructure.
+ *
+ * @author Oliver Drotbohm
+ */
+interface DomainIdentifierConverter {
+
+	/**
+	 * Creates a new {@link DomainIdentifierConverter} for the given identifier type.
+	 *
+	 * @param idType must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static DomainIdentifierConverter of(Class<?> idType, ConversionService conversions) {
+
+		Assert.notNull(idType, "Identifier type must not be null!");
+		Assert.notNull(conversions, "ConversionService must not be null!");
+
+		Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(idType);
+		DomainIdentifierConverter fallback = new Converting(type, conversions);
+
+		if (Long.class.equals(type)) {
+			return new Parsing(type, it -> NumberUtils.parseNumber(it, Long.class),
+					it -> narrow(it, type, Long.MIN_VALUE, Long.MAX_VALUE), fallback);
+		}
+
+		if (Integer.class.equals(type)) {
+			return new Parsing(type, it -> NumberUtils.parseNumber(it, Integer.class),
+					it -> (int) narrow(it, type, Integer.MIN_VALUE, Integer.MAX_VALUE), fallback);
+		}
+
+		if (UUID.class.equals(type)) {
+			return new Parsing(type, UUID::fromString, __ -> null, fallback);
+		}
+
+		if (type.isRecord() && type.getRecordComponents().length == 1) {
+			return new Wrapping(type, conversions);
+		}
+
+		return fallback;
+	}
+
+	/**
+	 * Converts the given identifier into the aggregate's identifier type.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return can be {@literal null}, e.g. for empty {@link String}s.
+	 */
+	@Nullable
+	Object convert(Object identifier);
+
+	/**
+	 * Turns the given aggregate identifier into the value to be exposed externally.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default Object unwrap(Object identifier) {
+		return identifier;
+	}
+
+	/**
+	 * Narrows the given {@link Number} into a {@code long} within the given bounds. Rejects non-integral values and ones
+	 * exceeding the bounds rather than truncating them, as that would silently resolve a different aggregate.
+	 *
+	 * @param number must not be {@literal null}.
+	 * @param type the identifier type to narrow the value for, must not be {@literal null}.
+	 * @param min the lower bound.
+	 * @param max the upper bound.
+	 * @return the narrowed value.
+	 * @throws IllegalArgumentException in case the value cannot be narrowed without loss of information.
+	 */
+	private static long narrow(Number number, Class<?> type, long min, long max) {
+
+		long value;
+
+		if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+			value = number.longValue();
+		} else {
+
+			try {
+				value = new BigDecimal(number.toString()).longValueExact();
+			} catch (NumberFormatException | ArithmeticException o_O) {
+				throw new IllegalArgumentException(String.format("Cannot convert %s into a %s identifier!", number,
+						type.getSimpleName()), o_O);
+			}
+		}
+
+		if (value < min || value > max) {
+			throw new IllegalArgumentException(String.format("Cannot convert %s into a %s identifier!", number,
+					type.getSimpleName()));
+		}
+
+		return value;
+	}
+
+	/**
+	 * Converts {@link String}s and {@link UUID}s using the {@link ConversionService}, leaving all other values
+	 * untouched.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	class Converting implements DomainIdentifierConverter {
+
+		private final Class<?> type;
+		private final ConversionService conversions;
+
+		Converting(Class<?> type, ConversionService conversions) {
+
+			this.type = type;
+			this.conversions = conversions;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.spring.data.DomainIdentifierConverter#convert(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object convert(Object identifier) {
+
+			if (type.isInstance(identifier)) {
+				return identifier;
+			}
+
+			return identifier instanceof UUID || identifier instanceof String
+					? conversions.convert(identifier, type)
+					: identifier;
+		}
+	}
+
+	/**
+	 * Parses {@link String}s and narrows {@link Number}s into the identifier type directly. Numbers are parsed like the
+	 * {@link ConversionService} does, i.e. including hexadecimal values. Narrowing rejects values that are not integral
+	 * or out of range.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	class Parsing implements DomainIdentifierConverter {
+
+		private final Class<?> type;
+		private final Function<String, Object> parser;
+		private final Function<Number, Object> narrower;
+		private final DomainIdentifierConverter fallback;
+
+		Parsing(Class<?> type, Function<String, Object> parser, Function<Number, Object> narrower,
+				DomainIdentifierConverter fallback) {
+
+			this.type = type;
+			this.parser = parser;
+			this.narrower = narrower;
+			this.fallback = fallback;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.spring.data.DomainIdentifierConverter#convert(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object convert(Object identifier) {
+
+			if (type.isInstance(identifier)) {
+				return identifier;
+			}
+
+			if (identifier instanceof String) {
+
+				String source = ((String) identifier).trim();
+
+				// Mimic the ConversionService's treatment of empty Strings
+				return source.isEmpty() ? null : parser.apply(source);
+			}
+
+			Object result = identifier instanceof Number ? narrower.apply((Number) identifier) : null;
+
+			return result != null ? result : fallback.convert(identifier);
+		}
+	}
+
+	/**
+	 * Converts the identifier into the single component of a record and wraps it into the record.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	class Wrapping implements DomainIdentifierConverter {
+
+		private final Class<?> type;
+		private final Constructor<?> constructor;
+		private final Method accessor;
+		private final DomainIdentifierConverter component;
+
+		Wrapping(Class<?> type, ConversionService conversions) {
+
+			RecordComponent component = type.getRecordComponents()[0];
+
+			try {
+				this.constructor = ReflectionUtils.accessibleConstructor(type, component.getType());
+			} catch (NoSuchMethodException o_O) {
+				throw new IllegalStateException("No canonical constructor found for " + type.getName() + "!", o_O);
+			}
+
+			this.type = type;
+			this.accessor = component.getAccessor();
+			this.component = DomainIdentifierConverter.of(component.getType(), conversions);
+
+			ReflectionUtils.makeAccessible(accessor);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.spring.data.DomainIdentifierConverter#convert(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object convert(Object identifier) {
+
+			if (type.isInstance(identifier)) {
+				return identifier;
+			}
+
+			Object value = component.convert(identifier);
+
+			return value == null ? null : BeanUtils.instantiateClass(constructor, value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.spring.data.DomainIdentifierConverter#unwrap(java.lang.Object)
+		 */
+		@Override
+		public Object unwrap(Object identifier) {
+
+			return type.isInstance(identifier)
+					? component.unwrap(ReflectionUtils.invokeMethod(accessor, identifier))
+					: identifier;
+		}
+	}
+}
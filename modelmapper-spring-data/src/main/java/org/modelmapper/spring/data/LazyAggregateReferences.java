@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import org.springframework.cglib.proxy.Callback;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.FixedValue;
+import org.springframework.cglib.proxy.LazyLoader;
+import org.springframework.core.NativeDetector;
+import org.springframework.lang.Nullable;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Creates class based proxies for aggregates of a particular type that only look up the actual aggregate once a
+ * method other than the identifier getter is invoked on them. All invocations, including {@link Object#equals(Object)}
+ * and {@link Object#hashCode()}, are then delegated to the loaded aggregate. The proxy class is generated once per
+ * aggregate type, so the aggregate type must neither be final nor declare final public methods.
+ *
+ * @author Oliver Drotbohm
+ */
+class LazyAggregateReferences {
+
+	private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+	private final Supplier<Class<?>> proxyType;
+
+	/**
+	 * Creates a new {@link LazyAggregateReferences} for the given aggregate type and identifier getter.
+	 *
+	 * @param aggregateType must not be {@literal null}.
+	 * @param identifierGetter the getter of the aggregate's identifier, can be {@literal null}.
+	 */
+	LazyAggregateReferences(Class<?> aggregateType, @Nullable Method identifierGetter) {
+
+		Assert.notNull(aggregateType, "Aggregate type must not be null!");
+		Assert.state(!NativeDetector.inNativeImage(), () -> String.format(
+				"Lazy references to %s require a repository exposing getReferenceById(…) in native images!",
+				aggregateType.getName()));
+
+		// Defer the class generation to the first reference to keep it off the startup path
+		this.proxyType = SingletonSupplier.of(() -> createProxyType(aggregateType, identifierGetter));
+	}
+
+	private static Class<?> createProxyType(Class<?> aggregateType, @Nullable Method identifierGetter) {
+
+		Enhancer enhancer = new Enhancer();
+		enhancer.setSuperclass(aggregateType);
+		enhancer.setClassLoader(aggregateType.getClassLoader());
+		enhancer.setCallbackTypes(new Class<?>[] { LazyLoader.class, IdentifierValue.class });
+		enhancer.setCallbackFilter(method -> identifierGetter != null && method.getParameterCount() == 0
+				&& method.getName().equals(identifierGetter.getName()) ? 1 : 0);
+		enhancer.setUseCache(false);
+
+		return enhancer.createClass();
+	}
+
+	/**
+	 * Creates a reference to the aggregate with the given identifier, looked up using the given {@link Supplier} on
+	 * first access.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @param lookup must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Object create(Object identifier, Supplier<Object> lookup) {
+
+		Factory proxy = (Factory) OBJENESIS.newInstance(proxyType.get());
+		proxy.setCallbacks(new Callback[] { (LazyLoader) lookup::get, new IdentifierValue(identifier) });
+
+		return proxy;
+	}
+
+	/**
+	 * Returns the identifier of the given object if it is a lazy aggregate reference.
+	 *
+	 * @param candidate must not be {@literal null}.
+	 * @return {@literal null} if the given object is not a lazy aggregate reference.
+	 */
+	@Nullable
+	static Object getIdentifier(Object candidate) {
+
+		if (!(candidate instanceof Factory)) {
+			return null;
+		}
+
+		Callback[] callbacks = ((Factory) candidate).getCallbacks();
+
+		return callbacks.length == 2 && callbacks[1] instanceof IdentifierValue
+				? ((IdentifierValue) callbacks[1]).identifier
+				: null;
+	}
+
+	/**
+	 * Returns the identifier for invocations of the identifier getter.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class IdentifierValue implements FixedValue {
+
+		private final Object identifier;
+
+		IdentifierValue(Object identifier) {
+			this.identifier = identifier;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.cglib.proxy.FixedValue#loadObject()
+		 */
+		@Override
+		public Object loadObject() {
+			return identifier;
+		}
+	}
+}
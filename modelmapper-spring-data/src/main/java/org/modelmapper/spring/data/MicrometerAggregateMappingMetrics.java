@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link AggregateMappingMetrics} recording Micrometer meters tagged with the aggregate type. Meters are only recorded
+ * once the instance has been bound to a {@link MeterRegistry}.
+ *
+ * @author Oliver Drotbohm
+ */
+public class MicrometerAggregateMappingMetrics implements AggregateMappingMetrics, MeterBinder {
+
+	static final String PREFIX = "modelmapper.aggregates.";
+	static final String TAG_NAME = "aggregate";
+
+	private final Map<Class<?>, Meters> meters = new ConcurrentHashMap<>();
+	private volatile @Nullable MeterRegistry registry;
+
+	/*
+	 * (non-Javadoc)
+	 * @see io.micrometer.core.instrument.binder.MeterBinder#bindTo(io.micrometer.core.instrument.MeterRegistry)
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		this.registry = registry;
+		this.meters.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.modelmapper.spring.data.AggregateMappingMetrics#identifierProcessed(java.lang.Class, long)
+	 */
+	@Override
+	public void identifierProcessed(Class<?> aggregateType, long nanos) {
+
+		Meters meters = getMeters(aggregateType);
+
+		if (meters != null) {
+			meters.processing.record(nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.modelmapper.spring.data.AggregateMappingMetrics#converted(java.lang.Class, long)
+	 */
+	@Override
+	public void converted(Class<?> aggregateType, long nanos) {
+
+		Meters meters = getMeters(aggregateType);
+
+		if (meters != null) {
+			meters.conversions.record(nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.modelmapper.spring.data.AggregateMappingMetrics#lookedUp(java.lang.Class, int, long)
+	 */
+	@Override
+	public void lookedUp(Class<?> aggregateType, int identifiers, long nanos) {
+
+		Meters meters = getMeters(aggregateType);
+
+		if (meters != null) {
+			meters.lookups.record(nanos, TimeUnit.NANOSECONDS);
+			meters.lookupSizes.record(identifiers);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.modelmapper.spring.data.AggregateMappingMetrics#unresolved(java.lang.Class)
+	 */
+	@Override
+	public void unresolved(Class<?> aggregateType) {
+
+		Meters meters = getMeters(aggregateType);
+
+		if (meters != null) {
+			meters.unresolved.increment();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.modelmapper.spring.data.AggregateMappingMetrics#rejected(java.lang.Class)
+	 */
+	@Override
+	public void rejected(Class<?> aggregateType) {
+
+		Meters meters = getMeters(aggregateType);
+
+		if (meters != null) {
+			meters.rejected.increment();
+		}
+	}
+
+	@Nullable
+	private Meters getMeters(Class<?> aggregateType) {
+
+		MeterRegistry registry = this.registry;
+
+		return registry == null ? null : meters.computeIfAbsent(aggregateType, it -> new Meters(it, registry));
+	}
+
+	/**
+	 * The meters for a particular aggregate type.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Meters {
+
+		private final Timer processing, conversions, lookups;
+		private final DistributionSummary lookupSizes;
+		private final Counter unresolved, rejected;
+
+		Meters(Class<?> aggregateType, MeterRegistry registry) {
+
+			Tags tags = Tags.of(TAG_NAME, aggregateType.getName());
+
+			this.processing = Timer.builder(PREFIX + "identifiers.processing")
+					.description("Pre-processing and conversion of source identifiers")
+					.tags(tags)
+					.register(registry);
+
+			this.conversions = Timer.builder(PREFIX + "conversions")
+					.description("Conversions of identifiers or collections of identifiers into aggregates")
+					.tags(tags)
+					.register(registry);
+
+			this.lookups = Timer.builder(PREFIX + "lookups")
+					.description("Repository lookups of aggregates")
+					.tags(tags)
+					.register(registry);
+
+			this.lookupSizes = DistributionSummary.builder(PREFIX + "lookups.identifiers")
+					.description("Number of identifiers per repository lookup")
+					.tags(tags)
+					.register(registry);
+
+			this.unresolved = Counter.builder(PREFIX + "unresolved")
+					.description("Identifiers not resolvable into an aggregate")
+					.tags(tags)
+					.register(registry);
+
+			this.rejected = Counter.builder(PREFIX + "rejected")
+					.description("AggregateReferenceMappingExceptions thrown for unresolvable identifiers")
+					.tags(tags)
+					.register(registry);
+		}
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.modelmapper.TypeMap;
+import org.modelmapper.spi.MappingContext;
+import org.modelmapper.spring.data.AggregateIdentityMaps.AggregateIdentityMap;
+import org.modelmapper.spring.data.AggregateMappingModule.IdentityMapScope;
+import org.modelmapper.spring.data.AggregateMappingModule.IdentityMapStatistics;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the aggregates referred to by the top-level properties of the source object of a
+ * {@link org.modelmapper.ModelMapper#map(Object, Class)} invocation concurrently before the actual mapping pass. The
+ * identifiers are grouped by aggregate type and each group is looked up on the configured {@link Executor}, limited to
+ * the configured number of concurrent lookups. The resolved aggregates are held in a mapping scoped
+ * {@link AggregateIdentityMap} consulted by the mapping pass, sized by the number of identifiers found and released
+ * together with the mapping's root context. Lookups not completed within the configured timeout are cancelled and
+ * their results ignored, so that they neither start after the timeout nor race with the mapping pass, which looks up
+ * the aggregates not resolved upfront sequentially as usual.
+ *
+ * @author Oliver Drotbohm
+ */
+class ParallelAggregateResolver {
+
+	private final Settings settings;
+	private final AggregateReferenceScanner scanner;
+	private final Semaphore permits;
+	private final AggregateIdentityMaps prefetched;
+
+	/**
+	 * Creates a new {@link ParallelAggregateResolver} for the given {@link Settings} and plan lookup function.
+	 *
+	 * @param settings must not be {@literal null}.
+	 * @param plans must not be {@literal null}.
+	 */
+	ParallelAggregateResolver(Settings settings, Function<Class<?>, AggregateResolutionPlan> plans) {
+
+		Assert.notNull(settings, "Settings must not be null!");
+		Assert.notNull(plans, "Plans must not be null!");
+
+		this.settings = settings;
+		this.scanner = new AggregateReferenceScanner(plans);
+		this.permits = new Semaphore(settings.getConcurrency());
+		// Identity maps are sized per mapping by the number of identifiers to resolve
+		this.prefetched = new AggregateIdentityMaps(IdentityMapScope.MAPPING, 1, new IdentityMapStatistics());
+	}
+
+	/**
+	 * Returns the {@link AggregateIdentityMap} containing the aggregates resolved upfront for the mapping the given
+	 * {@link MappingContext} belongs to. Triggers the concurrent resolution on first access for a mapping.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	AggregateIdentityMap getFor(MappingContext<?, ?> context) {
+		return prefetched.getFor(context, this::prefetch);
+	}
+
+	private AggregateIdentityMap prefetch(MappingContext<?, ?> root) {
+
+		Map<AggregateResolutionPlan, Set<Object>> identifiers = scan(root);
+		int size = identifiers.values().stream().mapToInt(Set::size).sum();
+		AggregateIdentityMap target = prefetched.create(Math.max(1, size));
+
+		// Nothing to gain from resolving a single aggregate type concurrently
+		if (identifiers.size() < 2) {
+			return target;
+		}
+
+		long deadline = System.nanoTime() + settings.getTimeout().toNanos();
+		Map<Class<?>, Lookup> lookups = new LinkedHashMap<>(identifiers.size());
+
+		try {
+
+			for (Map.Entry<AggregateResolutionPlan, Set<Object>> entry : identifiers.entrySet()) {
+
+				if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+					break;
+				}
+
+				AggregateResolutionPlan plan = entry.getKey();
+				Lookup lookup = new Lookup(plan, entry.getValue());
+
+				try {
+					settings.getExecutor().execute(lookup);
+				} catch (RuntimeException o_O) {
+					permits.release();
+					throw o_O;
+				}
+
+				lookups.put(plan.getAggregateType(), lookup);
+			}
+
+			for (Map.Entry<Class<?>, Lookup> entry : lookups.entrySet()) {
+
+				long remaining = deadline - System.nanoTime();
+
+				if (remaining <= 0) {
+					break;
+				}
+
+				try {
+					entry.getValue().get(remaining, TimeUnit.NANOSECONDS)
+							.forEach((id, aggregate) -> target.put(entry.getKey(), id, aggregate));
+				} catch (ExecutionException | TimeoutException o_O) {
+					// Unresolved aggregates are looked up during the mapping pass, surfacing errors there
+				}
+			}
+
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException o_O) {
+			// Unresolved aggregates are looked up during the mapping pass, surfacing errors there
+		} finally {
+
+			// Late results would only duplicate the lookups of the mapping pass
+			lookups.values().forEach(it -> it.cancel(true));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Collects the domain identifiers of all aggregates referred to by the top-level properties of the root source
+	 * object, grouped by the {@link AggregateResolutionPlan} of the target aggregate type.
+	 *
+	 * @param root must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Map<AggregateResolutionPlan, Set<Object>> scan(MappingContext<?, ?> root) {
+
+		TypeMap<?, ?> typeMap = root.getTypeMap();
+		Object source = root.getSource();
+		Map<AggregateResolutionPlan, Set<Object>> identifiers = new LinkedHashMap<>();
+
+		if (typeMap == null || source == null) {
+			return identifiers;
+		}
+
+		scanner.collectIdentifiers(typeMap, source, identifiers);
+
+		return identifiers;
+	}
+
+	/**
+	 * A lookup of the aggregates of a single type holding one of the permits until it has completed or was cancelled
+	 * before it started. Cancelling a running lookup interrupts the thread executing it, but the permit is only released
+	 * once the lookup actually returns, as the store might not react to interrupts.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private class Lookup extends FutureTask<Map<Object, Object>> {
+
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		Lookup(AggregateResolutionPlan plan, Set<Object> identifiers) {
+			super(() -> plan.findAllById(identifiers));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.FutureTask#run()
+		 */
+		@Override
+		public void run() {
+
+			if (!started.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+				super.run();
+			} finally {
+				permits.release();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.FutureTask#done()
+		 */
+		@Override
+		protected void done() {
+
+			// Cancelled before it was started
+			if (started.compareAndSet(false, true)) {
+				permits.release();
+			}
+		}
+	}
+
+	/**
+	 * The {@link Executor}, the maximum number of concurrent lookups and the timeout to resolve aggregates with.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value(staticConstructor = "of")
+	static class Settings {
+
+		Executor executor;
+		int concurrency;
+		Duration timeout;
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.Assert;
+
+/**
+ * Maps source objects referring to aggregates without blocking the calling thread. The aggregates referred to by the
+ * top-level properties of the source object are looked up upfront, grouped by aggregate type with a single
+ * {@code findAllById(…)} call per type. Aggregates managed by a {@link ReactiveCrudRepository} are resolved through
+ * that, all others on a {@link Schedulers#boundedElastic() scheduler} suitable for blocking calls. Once all of them
+ * are resolved, the actual mapping is performed, resolving references from the upfront lookups. References held by
+ * nested objects are still looked up during the mapping, which is rejected for aggregates managed by a
+ * {@link ReactiveCrudRepository}.
+ *
+ * @author Oliver Drotbohm
+ * @see AggregateMappingModule#createReactiveMapper(ModelMapper)
+ */
+public class ReactiveAggregateMapper {
+
+	private final ModelMapper mapper;
+	private final AggregateReferenceScanner scanner;
+	private final Repositories repositories;
+
+	/**
+	 * Creates a new {@link ReactiveAggregateMapper} for the given {@link ModelMapper}, {@link AggregateResolutionPlan}s
+	 * and {@link Repositories}.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param plans must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 */
+	ReactiveAggregateMapper(ModelMapper mapper, Function<Class<?>, AggregateResolutionPlan> plans,
+			Repositories repositories) {
+
+		Assert.notNull(mapper, "ModelMapper must not be null!");
+		Assert.notNull(plans, "Plans must not be null!");
+		Assert.notNull(repositories, "Repositories must not be null!");
+
+		this.mapper = mapper;
+		this.scanner = new AggregateReferenceScanner(plans);
+		this.repositories = repositories;
+	}
+
+	/**
+	 * Maps the given source object into an instance of the given destination type once all aggregates referred to
+	 * have been resolved.
+	 *
+	 * @param <T> the destination type.
+	 * @param source must not be {@literal null}.
+	 * @param destinationType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public <T> Mono<T> map(Object source, Class<T> destinationType) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(destinationType, "Destination type must not be null!");
+
+		return Mono.defer(() -> {
+
+			ResolvedAggregates resolved = new ResolvedAggregates();
+
+			return Flux.fromIterable(scan(source, destinationType).entrySet())
+					.flatMap(it -> findAllById(it.getKey(), it.getValue())
+							.doOnNext(aggregates -> resolved.register(it.getKey().getAggregateType(), it.getValue(),
+									aggregates)))
+					.then(Mono.fromSupplier(() -> resolved.bind(() -> mapper.map(source, destinationType))));
+		});
+	}
+
+	/**
+	 * Collects the domain identifiers of all aggregates referred to by the top-level properties of the given source
+	 * object, grouped by the {@link AggregateResolutionPlan} of the target aggregate type.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param destinationType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Map<AggregateResolutionPlan, Set<Object>> scan(Object source, Class<?> destinationType) {
+
+		// Atomically looks up or creates the TypeMap, as concurrent subscriptions might map the same types
+		TypeMap<?, ?> typeMap = mapper.typeMap(source.getClass(), destinationType);
+		Map<AggregateResolutionPlan, Set<Object>> identifiers = new LinkedHashMap<>();
+
+		scanner.collectIdentifiers(typeMap, source, identifiers);
+
+		return identifiers;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Mono<Map<Object, Object>> findAllById(AggregateResolutionPlan plan, Set<Object> identifiers) {
+
+		Object repository = repositories.getRepositoryFor(plan.getAggregateType()).orElse(null);
+
+		if (!(repository instanceof ReactiveCrudRepository)) {
+			return Mono.fromCallable(() -> plan.findAllById(identifiers))
+					.subscribeOn(Schedulers.boundedElastic());
+		}
+
+		ReactiveCrudRepository<Object, Object> reactive = (ReactiveCrudRepository<Object, Object>) repository;
+
+		return Mono.defer(() -> {
+
+			long start = plan.nanoTime();
+
+			return reactive.findAllById(identifiers)
+					.collectMap(plan::getIdentifier, Function.identity(), () -> new HashMap<>(identifiers.size()))
+					.doOnSuccess(__ -> plan.getMetrics().lookedUp(plan.getAggregateType(), identifiers.size(),
+							plan.nanoTime() - start));
+		});
+	}
+}
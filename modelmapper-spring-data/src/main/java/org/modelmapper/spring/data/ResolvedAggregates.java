@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Aggregates resolved before a mapping pass that are bound to the current thread while the mapping is executed. Other
+ * than the aggregates held in an {@link AggregateIdentityMaps.AggregateIdentityMap}, they are authoritative, i.e. an
+ * identifier registered without an aggregate is considered to not refer to an existing aggregate and not looked up
+ * again.
+ *
+ * @author Oliver Drotbohm
+ * @see ReactiveAggregateMapper
+ */
+class ResolvedAggregates {
+
+	private static final ThreadLocal<ResolvedAggregates> CURRENT = new ThreadLocal<>();
+	private static final Object MISSING = new Object();
+
+	private final Map<Class<?>, Map<Object, Object>> aggregates = new HashMap<>();
+
+	/**
+	 * Returns the {@link ResolvedAggregates} bound to the current thread.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	static ResolvedAggregates current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Registers the result of looking up the given identifiers of the given aggregate type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param identifiers the identifiers looked up, must not be {@literal null}.
+	 * @param resolved the aggregates found by their identifier, must not be {@literal null}.
+	 * @return the current instance.
+	 */
+	ResolvedAggregates register(Class<?> type, Iterable<Object> identifiers, Map<Object, Object> resolved) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+		Assert.notNull(resolved, "Resolved aggregates must not be null!");
+
+		Map<Object, Object> target = aggregates.computeIfAbsent(type, __ -> new HashMap<>());
+
+		for (Object identifier : identifiers) {
+			target.put(identifier, resolved.getOrDefault(identifier, MISSING));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the given identifier of the given aggregate type has been looked up.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return whether the identifier has been looked up.
+	 */
+	boolean contains(Class<?> type, Object id) {
+
+		Map<Object, Object> candidates = aggregates.get(type);
+
+		return candidates != null && candidates.containsKey(id);
+	}
+
+	/**
+	 * Returns the aggregate of the given type and identifier.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return {@literal null} if the aggregate does not exist or was not looked up.
+	 */
+	@Nullable
+	Object get(Class<?> type, Object id) {
+
+		Map<Object, Object> candidates = aggregates.get(type);
+		Object result = candidates == null ? null : candidates.get(id);
+
+		return result == MISSING ? null : result;
+	}
+
+	/**
+	 * Invokes the given {@link Supplier} with the current instance bound to the current thread.
+	 *
+	 * @param <T> the type of the result.
+	 * @param supplier must not be {@literal null}.
+	 * @return the result of the {@link Supplier}.
+	 */
+	<T> T bind(Supplier<T> supplier) {
+
+		Assert.notNull(supplier, "Supplier must not be null!");
+
+		ResolvedAggregates previous = CURRENT.get();
+		CURRENT.set(this);
+
+		try {
+			return supplier.get();
+		} finally {
+
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * Extracts the value of a single template variable from a URI containing a {@link UriTemplate}. Other than
+ * {@link UriTemplate#match(String)}, the template is analyzed once upfront so that the extraction neither needs to
+ * match all variables nor create intermediate maps. Templates consisting of a literal prefix and suffix around the
+ * variable only are handled by slicing the URI, all others by a precompiled pattern capturing the variable only.
+ *
+ * @author Oliver Drotbohm
+ */
+interface UriTemplateIdentifierExtractor {
+
+	static final String DEFAULT_VARIABLE_PATTERN = "[^/]*";
+	static final String GROUP_NAME = "identifier";
+
+	/**
+	 * Creates a new {@link UriTemplateIdentifierExtractor} for the given {@link UriTemplate} and variable name.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param variableName must not be {@literal null} or empty and refer to a variable of the given template.
+	 * @return will never be {@literal null}.
+	 */
+	static UriTemplateIdentifierExtractor of(UriTemplate template, String variableName) {
+
+		Assert.notNull(template, "UriTemplate must not be null!");
+		Assert.hasText(variableName, "Variable name must not be null or empty!");
+		Assert.isTrue(template.getVariableNames().contains(variableName),
+				() -> String.format("Template %s does not contain a variable %s!", template, variableName));
+
+		List<Segment> segments = Segment.parse(template.toString());
+
+		List<Segment> variables = segments.stream()
+				.filter(Segment::isVariable)
+				.collect(Collectors.toList());
+
+		if (variables.size() == 1) {
+
+			Segment variable = variables.get(0);
+
+			if (variable.getName().equals(variableName) && variable.getRegex() == null) {
+
+				int index = segments.indexOf(variable);
+				String prefix = index == 0 ? "" : segments.get(0).getValue();
+				String suffix = index == segments.size() - 1 ? "" : segments.get(index + 1).getValue();
+
+				return new Slicing(prefix, suffix);
+			}
+		}
+
+		StringBuilder pattern = new StringBuilder();
+
+		for (Segment segment : segments) {
+
+			if (!segment.isVariable()) {
+				pattern.append(Pattern.quote(segment.getValue()));
+				continue;
+			}
+
+			String regex = segment.getRegex() == null ? DEFAULT_VARIABLE_PATTERN : segment.getRegex();
+
+			pattern.append(segment.getName().equals(variableName) ? "(?<" + GROUP_NAME + ">" : "(?:")
+					.append(regex)
+					.append(')');
+		}
+
+		return new Matching(Pattern.compile(pattern.toString()));
+	}
+
+	/**
+	 * Returns the value of the template variable contained in the given URI.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @return {@literal null} if the given URI does not match the template.
+	 */
+	@Nullable
+	String extract(String uri);
+
+	/**
+	 * Extracts the variable value by cutting off a literal prefix and suffix.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	class Slicing implements UriTemplateIdentifierExtractor {
+
+		String prefix, suffix;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.spring.data.UriTemplateIdentifierExtractor#extract(java.lang.String)
+		 */
+		@Nullable
+		@Override
+		public String extract(String uri) {
+
+			// Mimic UriTemplate's unanchored search for the default variable pattern
+			for (int start = uri.indexOf(prefix); start != -1; start = uri.indexOf(prefix, start + 1)) {
+
+				int from = start + prefix.length();
+				int slash = uri.indexOf('/', from);
+				int limit = slash == -1 ? uri.length() : slash;
+
+				if (suffix.isEmpty()) {
+					return uri.substring(from, limit);
+				}
+
+				int end = uri.lastIndexOf(suffix, limit);
+
+				if (end >= from) {
+					return uri.substring(from, end);
+				}
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Extracts the variable value using a precompiled {@link Pattern} with a single capturing group. Like
+	 * {@link UriTemplate#match(String)}, the pattern is searched for in the URI rather than matched against all of it,
+	 * so that absolute URIs can be matched against templates containing a path only.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	class Matching implements UriTemplateIdentifierExtractor {
+
+		Pattern pattern;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.modelmapper.spring.data.UriTemplateIdentifierExtractor#extract(java.lang.String)
+		 */
+		@Nullable
+		@Override
+		public String extract(String uri) {
+
+			Matcher matcher = pattern.matcher(uri);
+
+			return matcher.find() ? matcher.group(GROUP_NAME) : null;
+		}
+	}
+
+	/**
+	 * A literal or variable segment of a URI template.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	class Segment {
+
+		@Nullable String value, name, regex;
+
+		boolean isVariable() {
+			return name != null;
+		}
+
+		/**
+		 * Parses the given URI template into literal and variable segments, following the rules of {@link UriTemplate}.
+		 *
+		 * @param template must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static List<Segment> parse(String template) {
+
+			List<Segment> segments = new ArrayList<>();
+			StringBuilder builder = new StringBuilder();
+			int level = 0;
+
+			for (int i = 0; i < template.length(); i++) {
+
+				char c = template.charAt(i);
+
+				if (c == '{') {
+
+					level++;
+
+					if (level == 1) {
+
+						if (builder.length() > 0) {
+							segments.add(new Segment(builder.toString(), null, null));
+						}
+
+						builder = new StringBuilder();
+						continue;
+					}
+
+				} else if (c == '}') {
+
+					level--;
+
+					if (level == 0) {
+
+						String variable = builder.toString();
+						int colon = variable.indexOf(':');
+
+						segments.add(colon == -1
+								? new Segment(null, variable, null)
+								: new Segment(null, variable.substring(0, colon), variable.substring(colon + 1)));
+
+						builder = new StringBuilder();
+						continue;
+					}
+				}
+
+				builder.append(c);
+			}
+
+			if (builder.length() > 0) {
+				segments.add(new Segment(builder.toString(), null, null));
+			}
+
+			return segments;
+		}
+	}
+}
@@ -21,11 +21,15 @@ import lombok.Value;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.util.UriTemplate;
 
@@ -37,10 +41,18 @@ import org.springframework.web.util.UriTemplate;
  */
 public class UriTemplateIdentifierProcessor implements AggregateIdentifierProcessor {
 
-	private final Map<Class<?>, ExtractionConfiguration> configuration = new HashMap<>();
+	private final Map<Class<?>, ExtractionConfiguration> configuration = new LinkedHashMap<>();
+	private final Map<Class<?>, Optional<ExtractionConfiguration>> index = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Boolean> supported = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<Object, Object>> uriCaches = new ConcurrentHashMap<>();
 
 	private @Setter boolean onlyApplyToUri;
 
+	/**
+	 * The number of URIs generated per aggregate type to be kept for reuse. Defaults to 0, i.e. no caching.
+	 */
+	private @Setter int uriCacheSize;
+
 	/**
 	 * Registers the given URI template for the given aggregate type. Assumes a single URI template parameter be in place.
 	 *
@@ -88,15 +100,7 @@ public class UriTemplateIdentifierProcessor implements AggregateIdentifierProces
 		Assert.notNull(template, "UriTemplate must not be null!");
 		Assert.hasText(variableName, "Variable name must not be null or empty!");
 
-		Function<Object, Object> uriCreator = it -> {
-
-			Map<String, Object> parameters = new HashMap<>();
-			parameters.put(variableName, it);
-
-			return template.expand(parameters);
-		};
-
-		return register(type, template, variableName, uriCreator);
+		return register(type, template, variableName, UriTemplateIdentifierRenderer.of(template, variableName));
 	}
 
 	/*
@@ -110,15 +114,13 @@ public class UriTemplateIdentifierProcessor implements AggregateIdentifierProces
 			return identifier;
 		}
 
-		ExtractionConfiguration configuration = this.configuration.get(targetType);
+		ExtractionConfiguration configuration = getConfiguration(targetType);
 
 		if (configuration == null) {
 			return identifier;
 		}
 
-		Map<String, String> variables = configuration.template.match(identifier.toString());
-
-		return variables.get(configuration.variableName);
+		return configuration.extractor.extract(identifier.toString());
 	}
 
 	/*
@@ -132,11 +134,21 @@ public class UriTemplateIdentifierProcessor implements AggregateIdentifierProces
 			return identifier;
 		}
 
-		ExtractionConfiguration configuration = this.configuration.get(sourceType);
+		ExtractionConfiguration configuration = getConfiguration(sourceType);
+
+		if (configuration == null) {
+			return identifier;
+		}
+
+		if (uriCacheSize <= 0) {
+			return configuration.uriCreator.apply(identifier);
+		}
+
+		Map<Object, Object> cache = uriCaches.computeIfAbsent(sourceType, __ -> new BoundedLruMap<>(uriCacheSize));
 
-		return configuration == null
-				? identifier
-				: configuration.uriCreator.apply(identifier);
+		synchronized (cache) {
+			return cache.computeIfAbsent(identifier, configuration.uriCreator);
+		}
 	}
 
 	/*
@@ -154,8 +166,38 @@ public class UriTemplateIdentifierProcessor implements AggregateIdentifierProces
 	 */
 	public boolean supports(Class<?> delimiter) {
 
-		return configuration.keySet().stream()
-				.anyMatch(delimiter::isAssignableFrom);
+		// Registered types, their subtypes and their supertypes
+		return supported.computeIfAbsent(delimiter, it -> getConfiguration(it) != null
+				|| configuration.keySet().stream().anyMatch(it::isAssignableFrom));
+	}
+
+	/**
+	 * Returns the {@link ExtractionConfiguration} for the given aggregate type, i.e. the one registered for the type
+	 * itself or the closest of its supertypes. The result is memoized per type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	private ExtractionConfiguration getConfiguration(Class<?> type) {
+
+		return index.computeIfAbsent(type, it -> {
+
+			for (Class<?> candidate = it; candidate != null; candidate = candidate.getSuperclass()) {
+
+				ExtractionConfiguration configuration = this.configuration.get(candidate);
+
+				if (configuration != null) {
+					return Optional.of(configuration);
+				}
+			}
+
+			return this.configuration.entrySet().stream()
+					.filter(entry -> entry.getKey().isAssignableFrom(it))
+					.map(Entry::getValue)
+					.findFirst();
+
+		}).orElse(null);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -166,7 +208,10 @@ public class UriTemplateIdentifierProcessor implements AggregateIdentifierProces
 		Assert.notNull(template, "UriTemplate must not be null!");
 		Assert.hasText(variableName, "Variable name must not be null or empty!");
 
-		configuration.put(type, ExtractionConfiguration.of(template, variableName, (Function<Object, Object>) uriCreator));
+		configuration.put(type, ExtractionConfiguration.of(UriTemplateIdentifierExtractor.of(template, variableName),
+				(Function<Object, Object>) uriCreator));
+		index.clear();
+		supported.clear();
 
 		return this;
 	}
@@ -174,8 +219,7 @@ public class UriTemplateIdentifierProcessor implements AggregateIdentifierProces
 	@Value(staticConstructor = "of")
 	private static class ExtractionConfiguration {
 
-		UriTemplate template;
-		String variableName;
+		UriTemplateIdentifierExtractor extractor;
 		Function<Object, Object> uriCreator;
 	}
 }
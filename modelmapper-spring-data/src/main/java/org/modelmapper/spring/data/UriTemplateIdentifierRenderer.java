@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.Value;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.modelmapper.spring.data.UriTemplateIdentifierExtractor.Segment;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriTemplate;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Renders a URI for an identifier by expanding a {@link UriTemplate} with a single template variable. Templates with
+ * the variable located in the path and literals not requiring any encoding are split into a literal prefix and suffix
+ * once, so that rendering only needs to encode the identifier and concatenate the parts. All others are expanded
+ * through {@link UriTemplate#expand(java.util.Map)}.
+ *
+ * @author Oliver Drotbohm
+ */
+interface UriTemplateIdentifierRenderer extends Function<Object, Object> {
+
+	/**
+	 * Creates a new {@link UriTemplateIdentifierRenderer} for the given {@link UriTemplate} and variable name.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param variableName must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	static UriTemplateIdentifierRenderer of(UriTemplate template, String variableName) {
+
+		Assert.notNull(template, "UriTemplate must not be null!");
+		Assert.hasText(variableName, "Variable name must not be null or empty!");
+
+		List<Segment> segments = Segment.parse(template.toString());
+		int index = -1;
+
+		for (int i = 0; i < segments.size(); i++) {
+
+			Segment segment = segments.get(i);
+
+			if (!segment.isVariable()) {
+				continue;
+			}
+
+			// Other variables have to be expanded by the template
+			if (index != -1 || !variableName.equals(segment.getName())) {
+				return new Expanding(template, variableName);
+			}
+
+			index = i;
+		}
+
+		if (index == -1) {
+			return new Expanding(template, variableName);
+		}
+
+		String prefix = index == 0 ? "" : segments.get(0).getValue();
+		String suffix = index == segments.size() - 1 ? "" : segments.get(index + 1).getValue();
+
+		// Variable not within the path or literals subject to encoding
+		if (prefix.indexOf('?') != -1 || prefix.indexOf('#') != -1
+				|| !prefix.equals(encode(prefix)) || !suffix.equals(encode(suffix))) {
+			return new Expanding(template, variableName);
+		}
+
+		return new Concatenating(prefix, suffix);
+	}
+
+	private static String encode(String source) {
+		return UriUtils.encodePath(source, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Renders the URI by concatenating the literal prefix, the encoded identifier and the literal suffix.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	class Concatenating implements UriTemplateIdentifierRenderer {
+
+		String prefix, suffix;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.function.Function#apply(java.lang.Object)
+		 */
+		@Override
+		public Object apply(Object identifier) {
+
+			String value = encode(identifier.toString());
+
+			return URI.create(new StringBuilder(prefix.length() + value.length() + suffix.length())
+					.append(prefix)
+					.append(value)
+					.append(suffix)
+					.toString());
+		}
+	}
+
+	/**
+	 * Renders the URI by expanding the {@link UriTemplate}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	class Expanding implements UriTemplateIdentifierRenderer {
+
+		UriTemplate template;
+		String variableName;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.function.Function#apply(java.lang.Object)
+		 */
+		@Override
+		public Object apply(Object identifier) {
+			return template.expand(Collections.singletonMap(variableName, identifier));
+		}
+	}
+}
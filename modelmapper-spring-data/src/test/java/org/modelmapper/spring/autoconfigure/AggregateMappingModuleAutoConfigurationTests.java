@@ -19,20 +19,33 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Data;
+
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
+import org.modelmapper.spi.ErrorMessage;
 import org.modelmapper.spring.data.AggregateIdentifierProcessor;
 import org.modelmapper.spring.data.AggregateMappingConfigurer;
+import org.modelmapper.spring.data.AggregateMappingMetrics;
 import org.modelmapper.spring.data.AggregateMappingModule;
+import org.modelmapper.spring.data.AggregateMappingModule.AggregateReferenceMappingException;
+import org.modelmapper.spring.data.MicrometerAggregateMappingMetrics;
 import org.modelmapper.spring.data.Symptom;
+import org.modelmapper.spring.data.SymptomRepository;
 import org.modelmapper.spring.data.TestConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.repository.support.Repositories;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -61,6 +74,158 @@ class AggregateMappingModuleAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	void reusesRepositoriesBeanIfPresent() {
+
+		contextRunner
+				.withUserConfiguration(TestConfiguration.class)
+				.withBean(Repositories.class)
+				.run(ctx -> {
+
+					AggregateMappingModule module = ctx.getBean(AggregateMappingModule.class);
+
+					assertThat(ReflectionTestUtils.getField(module, "repositories"))
+							.isSameAs(ctx.getBean(Repositories.class));
+				});
+	}
+
+	@Test
+	void evictsCachedAggregatesOnRepositoryWrites() {
+
+		UUID id = UUID.randomUUID();
+
+		contextRunner
+				.withUserConfiguration(TestConfiguration.class)
+				.withBean(AggregateMappingConfigurer.class,
+						() -> module -> module.cache(Symptom.class, 10, Duration.ofMinutes(1)))
+				.run(ctx -> {
+
+					ModelMapper mapper = ctx.getBean(ModelMapper.class);
+					SymptomRepository repository = ctx.getBean(SymptomRepository.class);
+
+					Symptom symptom = repository.save(new Symptom(id));
+
+					SymptomReference reference = new SymptomReference();
+					reference.symptom = id;
+
+					assertThat(mapper.map(reference, SymptomHolder.class).symptom).isEqualTo(symptom);
+
+					repository.delete(symptom);
+
+					assertThatExceptionOfType(MappingException.class)
+							.isThrownBy(() -> mapper.map(reference, SymptomHolder.class))
+							.satisfies(it -> assertThat(it.getErrorMessages())
+									.extracting(ErrorMessage::getCause)
+									.hasOnlyElementsOfType(AggregateReferenceMappingException.class));
+				});
+	}
+
+	@Test
+	void remembersUnresolvableIdentifiersUntilRepositoryWrites() {
+
+		UUID id = UUID.randomUUID();
+		MeterRegistry registry = new SimpleMeterRegistry();
+
+		contextRunner
+				.withUserConfiguration(TestConfiguration.class)
+				.withBean(MeterRegistry.class, () -> registry)
+				.withBean(AggregateMappingConfigurer.class,
+						() -> module -> module.cacheMisses(Symptom.class, 10, Duration.ofMinutes(1)))
+				.run(ctx -> {
+
+					ctx.getBean(MicrometerAggregateMappingMetrics.class).bindTo(registry);
+
+					ModelMapper mapper = ctx.getBean(ModelMapper.class);
+
+					SymptomReference reference = new SymptomReference();
+					reference.symptom = id;
+
+					for (int i = 0; i < 2; i++) {
+						assertThatExceptionOfType(MappingException.class)
+								.isThrownBy(() -> mapper.map(reference, SymptomHolder.class));
+					}
+
+					// Second attempt short-circuited
+					assertThat(registry.get("modelmapper.aggregates.lookups").timer().count()).isEqualTo(1);
+
+					Symptom symptom = ctx.getBean(SymptomRepository.class).save(new Symptom(id));
+
+					assertThat(mapper.map(reference, SymptomHolder.class).symptom).isEqualTo(symptom);
+				});
+	}
+
+	@Test
+	void recordsMetricsPerAggregateType() {
+
+		UUID id = UUID.randomUUID();
+		MeterRegistry registry = new SimpleMeterRegistry();
+
+		contextRunner
+				.withUserConfiguration(TestConfiguration.class)
+				.withBean(MeterRegistry.class, () -> registry)
+				.run(ctx -> {
+
+					ctx.getBean(MicrometerAggregateMappingMetrics.class).bindTo(registry);
+
+					ModelMapper mapper = ctx.getBean(ModelMapper.class);
+					ctx.getBean(SymptomRepository.class).save(new Symptom(id));
+
+					SymptomReference reference = new SymptomReference();
+					reference.symptom = id;
+
+					mapper.map(reference, SymptomHolder.class);
+
+					reference.symptom = UUID.randomUUID();
+
+					assertThatExceptionOfType(MappingException.class)
+							.isThrownBy(() -> mapper.map(reference, SymptomHolder.class));
+
+					String aggregate = Symptom.class.getName();
+
+					assertThat(registry.get("modelmapper.aggregates.conversions").tag("aggregate", aggregate).timer().count())
+							.isEqualTo(2);
+					assertThat(registry.get("modelmapper.aggregates.lookups").tag("aggregate", aggregate).timer().count())
+							.isEqualTo(2);
+					assertThat(registry.get("modelmapper.aggregates.unresolved").tag("aggregate", aggregate).counter().count())
+							.isEqualTo(1);
+					assertThat(registry.get("modelmapper.aggregates.rejected").tag("aggregate", aggregate).counter().count())
+							.isEqualTo(1);
+				});
+	}
+
+	@Test
+	void doesNotRegisterMetricsIfMicrometerIsNotOnTheClasspath() {
+
+		contextRunner
+				.withClassLoader(new FilteredClassLoader("io.micrometer"))
+				.run(ctx -> assertThat(ctx).hasSingleBean(AggregateMappingModule.class)
+						.doesNotHaveBean(MicrometerAggregateMappingMetrics.class));
+	}
+
+	@Test
+	void doesNotRegisterMetricsWithoutMeterRegistry() {
+
+		contextRunner
+				.run(ctx -> assertThat(ctx).hasSingleBean(AggregateMappingModule.class)
+						.doesNotHaveBean(MicrometerAggregateMappingMetrics.class));
+	}
+
+	@Test
+	void backsOffMetricsForCustomAggregateMappingMetrics() {
+
+		AggregateMappingMetrics metrics = new AggregateMappingMetrics() {};
+
+		contextRunner
+				.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+				.withBean(AggregateMappingMetrics.class, () -> metrics)
+				.run(ctx -> {
+
+					assertThat(ctx).doesNotHaveBean(MicrometerAggregateMappingMetrics.class);
+					assertThat(ReflectionTestUtils.getField(ctx.getBean(AggregateMappingModule.class), "metrics"))
+							.isSameAs(metrics);
+				});
+	}
+
 	@Test
 	void doesNotRegisterModuleIfSpringDataIsNotOnTheClasspath() {
 
@@ -106,4 +271,14 @@ class AggregateMappingModuleAutoConfigurationTests {
 					verify(configurer, times(1)).configure(any());
 				});
 	}
+
+	@Data
+	static class SymptomReference {
+		UUID symptom;
+	}
+
+	@Data
+	static class SymptomHolder {
+		Symptom symptom;
+	}
 }
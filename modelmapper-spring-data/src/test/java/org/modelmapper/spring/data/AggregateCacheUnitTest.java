@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author Oliver Drotbohm
+ */
+class AggregateCacheUnitTest {
+
+	@Test
+	void staysBoundedForRepeatedlyExpiringIdentifiers() throws Exception {
+
+		AggregateCache cache = new AggregateCache(10, Duration.ZERO);
+
+		for (int i = 0; i < 1000; i++) {
+
+			cache.put("id", Boolean.TRUE, cache.getGeneration());
+
+			Thread.sleep(0, 1);
+
+			assertThat(cache.get("id")).isNull();
+		}
+
+		assertThat((Collection<?>) ReflectionTestUtils.getField(cache, "insertionOrder")).hasSizeLessThanOrEqualTo(20);
+		assertThat((Map<?, ?>) ReflectionTestUtils.getField(cache, "entries")).hasSizeLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void evictsOldestEntryInsteadOfFreshOneForDroppedIdentifier() {
+
+		AggregateCache cache = new AggregateCache(2, Duration.ofMinutes(1));
+
+		long outdated = cache.getGeneration();
+		cache.evictAll();
+
+		// Dropped as the cache was evicted in the meantime
+		cache.put("a", "stale", outdated);
+
+		cache.put("b", "b", cache.getGeneration());
+		cache.put("a", "a", cache.getGeneration());
+		cache.put("c", "c", cache.getGeneration());
+
+		assertThat(cache.get("a")).isEqualTo("a");
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isEqualTo("c");
+	}
+}
@@ -20,22 +20,47 @@ import static org.assertj.core.api.Assertions.*;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.lang.reflect.Method;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.aopalliance.intercept.MethodInterceptor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
+import org.modelmapper.spi.ErrorMessage;
 import org.modelmapper.spring.data.AggregateMappingModule.AggregateReferenceMappingException;
+import org.modelmapper.spring.data.AggregateMappingModule.AggregateReferenceMappingException.FailedReference;
+import org.modelmapper.spring.data.AggregateMappingModule.FailureReporting;
+import org.modelmapper.spring.data.AggregateMappingModule.IdentityMapScope;
+import org.modelmapper.spring.data.AggregateMappingModule.IdentityMapStatistics;
 import org.modelmapper.spring.data.AggregateMappingModule.NullHandling;
+import org.modelmapper.spring.data.AggregateMappingModule.ReferenceHandling;
+import org.modelmapper.spring.data.Treatment.TreatmentId;
+import org.springframework.aop.framework.Advised;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.map.repository.config.EnableMapRepositories;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.TestConstructor.AutowireMode;
@@ -58,15 +83,25 @@ class AggregateMappingModuleIntegrationTests {
 	private final ApplicationContext context;
 	private final ConversionService conversions;
 	private final SymptomRepository symptoms;
+	private final DiagnosisRepository diagnoses;
+	private final PrescriptionRepository prescriptions;
+	private final TreatmentRepository treatments;
+	private final MedicationRepository medications;
 
 	@Configuration
-	@EnableMapRepositories
+	@EnableMapRepositories(excludeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MedicationRepository.class))
 	static class TestConfig {
 
 		@Bean
 		ConversionService conversionService() {
 			return new DefaultConversionService();
 		}
+
+		@Bean
+		ReactiveKeyValueRepositoryFactoryBean<MedicationRepository, Medication, UUID> medicationRepository(
+				KeyValueOperations operations) {
+			return new ReactiveKeyValueRepositoryFactoryBean<>(MedicationRepository.class, operations);
+		}
 	}
 
 	@Test
@@ -133,6 +168,815 @@ class AggregateMappingModuleIntegrationTests {
 		assertThat(source.symptomUri.toString()).isEqualTo(VALID_URI);
 	}
 
+	@Test
+	void resolvesIdentifierCollectionPreservingOrder() {
+
+		UUID otherId = UUID.randomUUID();
+
+		Symptom first = symptoms.save(new Symptom(id));
+		Symptom second = symptoms.save(new Symptom(otherId));
+
+		CollectionSource source = new CollectionSource();
+		source.symptoms = List.of(otherId.toString(), VALID_URI, otherId.toString());
+
+		List<String> invocations = new ArrayList<>();
+		MethodInterceptor recorder = invocation -> {
+			invocations.add(invocation.getMethod().getName());
+			return invocation.proceed();
+		};
+
+		((Advised) symptoms).addAdvice(0, recorder);
+
+		try {
+
+			CollectionSink sink = initMapper().map(source, CollectionSink.class);
+
+			assertThat(sink.symptoms).containsExactly(second, first, second);
+
+			// Resolved with a single lookup for all distinct identifiers
+			assertThat(invocations).containsOnlyOnce("findAllById").doesNotContain("findById");
+
+		} finally {
+			((Advised) symptoms).removeAdvice(recorder);
+		}
+	}
+
+	@Test
+	void rejectsIdentifierCollectionWithInvalidReference() {
+
+		symptoms.save(new Symptom(id));
+
+		CollectionSource source = new CollectionSource();
+		source.symptoms = List.of(VALID_URI, INVALID_URI);
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> initMapper().map(source, CollectionSink.class))
+				.satisfies(it -> {
+					it.getErrorMessages().forEach(message -> {
+						assertThat(message.getCause()).isInstanceOfSatisfying(AggregateReferenceMappingException.class,
+								cause -> assertThat(cause.getPath()).isEqualTo("symptoms"));
+					});
+				});
+	}
+
+	@Test
+	void returnsNullForMissingAggregatesInCollectionIfExplicitlyConfigured() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+
+		ModelMapper mapper = initMapper(it -> {
+			it.nullHandling(Symptom.class, NullHandling.RETURN_NULL);
+		});
+
+		CollectionSource source = new CollectionSource();
+		source.symptoms = List.of(INVALID_URI, VALID_URI);
+
+		CollectionSink sink = mapper.map(source, CollectionSink.class);
+
+		assertThat(sink.symptoms).containsExactly(null, symptom);
+	}
+
+	@Test
+	void writesIdentifiersForAggregateCollection() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+
+		CollectionSink sink = new CollectionSink();
+		sink.symptoms = List.of(symptom);
+
+		CollectionSource source = initMapper().map(sink, CollectionSource.class);
+
+		assertThat(source.symptoms).containsExactly(VALID_URI);
+	}
+
+	@Test
+	void mapsAggregateCollectionWithoutLookingUpIdentifiers() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+
+		ReferencesSink source = new ReferencesSink();
+		source.symptoms = List.of(symptom);
+
+		List<String> invocations = new ArrayList<>();
+		MethodInterceptor recorder = invocation -> {
+			invocations.add(invocation.getMethod().getName());
+			return invocation.proceed();
+		};
+
+		((Advised) symptoms).addAdvice(0, recorder);
+
+		try {
+
+			CollectionSink sink = initMapper().map(source, CollectionSink.class);
+
+			assertThat(sink.symptoms).containsExactly(symptom);
+			assertThat(invocations).isEmpty();
+
+		} finally {
+			((Advised) symptoms).removeAdvice(recorder);
+		}
+	}
+
+	@Test
+	void resolvesRepeatedReferencesFromIdentityMap() {
+
+		symptoms.save(new Symptom(id));
+
+		AggregateMappingModule[] module = new AggregateMappingModule[1];
+
+		ModelMapper mapper = initMapper(it -> {
+			module[0] = it.identityMap(IdentityMapScope.MAPPING, 10);
+		});
+
+		Source source = new Source();
+		source.symptom = VALID_URI;
+		source.symptomUri = URI.create(VALID_URI);
+
+		Sink sink = mapper.map(source, Sink.class);
+
+		assertThat(sink.symptom).isSameAs(sink.symptomUri);
+
+		IdentityMapStatistics statistics = module[0].getIdentityMapStatistics();
+
+		assertThat(statistics.getHits()).isEqualTo(1);
+		assertThat(statistics.getMisses()).isEqualTo(1);
+
+		// Identity map does not span multiple mapping invocations
+		mapper.map(source, Sink.class);
+
+		assertThat(statistics.getHits()).isEqualTo(2);
+		assertThat(statistics.getMisses()).isEqualTo(2);
+	}
+
+	@Test
+	void resolvesCachedAggregatesUntilEvicted() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+
+		AggregateMappingModule[] module = new AggregateMappingModule[1];
+
+		ModelMapper mapper = initMapper(it -> {
+			module[0] = it.cache(Symptom.class, 10, Duration.ofMinutes(1));
+		});
+
+		Source source = new Source();
+		source.symptom = VALID_URI;
+		source.symptomUri = URI.create(VALID_URI);
+
+		assertThat(mapper.map(source, Sink.class).symptom).isEqualTo(symptom);
+
+		symptoms.delete(symptom);
+
+		assertThat(mapper.map(source, Sink.class).symptom).isEqualTo(symptom);
+
+		module[0].evict(Symptom.class);
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> mapper.map(source, Sink.class));
+	}
+
+	@Test
+	void evictsCachesOnlyForCachedAggregateTypesOnRepositoryWrites() throws Exception {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+
+		AggregateMappingModule[] module = new AggregateMappingModule[1];
+		AtomicInteger moduleLookups = new AtomicInteger();
+
+		ModelMapper mapper = initMapper(it -> {
+			module[0] = it.cache(Symptom.class, 10, Duration.ofMinutes(1));
+		});
+
+		var listener = new AggregateCacheEvictingRepositoryMethodInvocationListener(() -> {
+			moduleLookups.incrementAndGet();
+			return module[0];
+		});
+
+		Method save = CrudRepository.class.getMethod("save", Object.class);
+
+		Source source = new Source();
+		source.symptom = VALID_URI;
+		source.symptomUri = URI.create(VALID_URI);
+
+		assertThat(mapper.map(source, Sink.class).symptom).isEqualTo(symptom);
+
+		symptoms.delete(symptom);
+
+		// Writes to repositories of uncached types are ignored after a single inspection
+		listener.afterInvocation(new RepositoryMethodInvocation(DiagnosisRepository.class, save, null, 0));
+		listener.afterInvocation(new RepositoryMethodInvocation(DiagnosisRepository.class, save, null, 0));
+
+		assertThat(moduleLookups).hasValue(1);
+		assertThat(mapper.map(source, Sink.class).symptom).isEqualTo(symptom);
+
+		listener.afterInvocation(new RepositoryMethodInvocation(SymptomRepository.class, save, null, 0));
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> mapper.map(source, Sink.class));
+	}
+
+	@Test
+	void resolvesReferencesOfDifferentTypesConcurrently() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+		Diagnosis diagnosis = diagnoses.save(new Diagnosis(UUID.randomUUID()));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		AtomicInteger lookups = new AtomicInteger();
+
+		try {
+
+			ModelMapper mapper = initMapper(it -> it.parallelResolution(command -> {
+				lookups.incrementAndGet();
+				executor.execute(command);
+			}, 2, Duration.ofSeconds(5)));
+
+			ReportSource source = new ReportSource();
+			source.symptom = VALID_URI;
+			source.diagnosis = diagnosis.getId();
+
+			ReportSink sink = mapper.map(source, ReportSink.class);
+
+			assertThat(sink.symptom).isEqualTo(symptom);
+			assertThat(sink.diagnosis).isEqualTo(diagnosis);
+			assertThat(lookups.get()).isEqualTo(2);
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void resolvesReferencesSequentiallyIfConcurrentResolutionTimesOut() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+		Diagnosis diagnosis = diagnoses.save(new Diagnosis(UUID.randomUUID()));
+
+		// Never executes any lookups
+		ModelMapper mapper = initMapper(it -> it.parallelResolution(__ -> {}, 2, Duration.ofMillis(10)));
+
+		ReportSource source = new ReportSource();
+		source.symptom = VALID_URI;
+		source.diagnosis = diagnosis.getId();
+
+		ReportSink sink = mapper.map(source, ReportSink.class);
+
+		assertThat(sink.symptom).isEqualTo(symptom);
+		assertThat(sink.diagnosis).isEqualTo(diagnosis);
+	}
+
+	@Test
+	void cancelsConcurrentLookupsNotCompletedInTime() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+		Diagnosis diagnosis = diagnoses.save(new Diagnosis(UUID.randomUUID()));
+
+		List<Runnable> pending = new ArrayList<>();
+		AtomicInteger executed = new AtomicInteger();
+		AtomicBoolean execute = new AtomicBoolean();
+
+		ModelMapper mapper = initMapper(it -> it.parallelResolution(command -> {
+
+			if (execute.get()) {
+				executed.incrementAndGet();
+				command.run();
+			} else {
+				pending.add(command);
+			}
+
+		}, 2, Duration.ofMillis(10)));
+
+		ReportSource source = new ReportSource();
+		source.symptom = VALID_URI;
+		source.diagnosis = diagnosis.getId();
+
+		ReportSink sink = mapper.map(source, ReportSink.class);
+
+		assertThat(sink.symptom).isEqualTo(symptom);
+		assertThat(sink.diagnosis).isEqualTo(diagnosis);
+		assertThat(pending).hasSize(2);
+
+		List<String> invocations = new ArrayList<>();
+		MethodInterceptor recorder = invocation -> {
+			invocations.add(invocation.getMethod().getName());
+			return invocation.proceed();
+		};
+
+		((Advised) symptoms).addAdvice(0, recorder);
+
+		try {
+
+			// Lookups started after the timeout do not hit the store anymore
+			pending.forEach(Runnable::run);
+
+			assertThat(invocations).isEmpty();
+
+		} finally {
+			((Advised) symptoms).removeAdvice(recorder);
+		}
+
+		// Cancelled lookups released their permits
+		execute.set(true);
+
+		ReportSource next = new ReportSource();
+		next.symptom = VALID_URI;
+		next.diagnosis = diagnosis.getId();
+
+		assertThat(mapper.map(next, ReportSink.class).symptom).isEqualTo(symptom);
+		assertThat(executed).hasValue(2);
+	}
+
+	@Test
+	void createsLazyReferenceIfConfigured() {
+
+		UUID id = UUID.randomUUID();
+		String uri = "/symptoms/" + id;
+
+		ModelMapper mapper = initMapper(it -> it.referenceHandling(Symptom.class, ReferenceHandling.LAZY));
+
+		Source source = new Source();
+		source.symptom = uri;
+		source.symptomUri = URI.create(uri);
+
+		Sink sink = mapper.map(source, Sink.class);
+
+		// Identifier available without lookup
+		assertThat(sink.symptom.getId()).isEqualTo(id);
+
+		// Invalid reference rejected on first access
+		assertThatExceptionOfType(AggregateReferenceMappingException.class)
+				.isThrownBy(() -> sink.symptom.toString());
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+
+		assertThat(mapper.map(source, Sink.class).symptom).isEqualTo(symptom);
+
+		// Writes identifier of lazy reference
+		assertThat(mapper.map(mapper.map(source, Sink.class), Source.class).symptom).isEqualTo(uri);
+	}
+
+	@Test
+	void createsLazyReferencesForCollectionsIfConfigured() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+
+		ModelMapper mapper = initMapper(it -> it.referenceHandling(Symptom.class, ReferenceHandling.LAZY));
+
+		CollectionSource source = new CollectionSource();
+		source.symptoms = List.of(VALID_URI, VALID_URI);
+
+		CollectionSink sink = mapper.map(source, CollectionSink.class);
+
+		assertThat(sink.symptoms).hasSize(2);
+		assertThat(sink.symptoms.get(0)).isSameAs(sink.symptoms.get(1));
+		assertThat(sink.symptoms.get(0).getId()).isEqualTo(id);
+		assertThat(sink.symptoms).containsExactly(symptom, symptom);
+	}
+
+	@Test
+	void resolvesNumericAndRecordIdentifiers() {
+
+		Prescription prescription = prescriptions.save(new Prescription(42L));
+		Prescription renewal = prescriptions.save(new Prescription(43L));
+		Treatment treatment = treatments.save(new Treatment(new TreatmentId(UUID.randomUUID())));
+
+		ModelMapper mapper = initMapper();
+
+		TreatmentSource source = new TreatmentSource();
+		source.prescription = " 42";
+		source.renewal = 43;
+		source.treatment = treatment.getId().value().toString();
+
+		TreatmentSink sink = mapper.map(source, TreatmentSink.class);
+
+		assertThat(sink.prescription).isEqualTo(prescription);
+		assertThat(sink.renewal).isEqualTo(renewal);
+		assertThat(sink.treatment).isEqualTo(treatment);
+
+		TreatmentSource result = mapper.map(sink, TreatmentSource.class);
+
+		assertThat(result.prescription).isEqualTo("42");
+		assertThat(result.renewal).isEqualTo(43);
+		assertThat(result.treatment).isEqualTo(source.treatment);
+	}
+
+	@Test
+	void resolvesPrimitiveNumericIdentifiers() {
+
+		Prescription prescription = prescriptions.save(new Prescription(42L));
+
+		ModelMapper mapper = initMapper();
+
+		PrimitivePrescriptionSource source = new PrimitivePrescriptionSource();
+		source.prescription = 42L;
+
+		PrescriptionSink sink = mapper.map(source, PrescriptionSink.class);
+
+		assertThat(sink.prescription).isEqualTo(prescription);
+		assertThat(mapper.map(sink, PrimitivePrescriptionSource.class).prescription).isEqualTo(42L);
+	}
+
+	@Test
+	void mapsStreamOfSourcesResolvingReferencesInChunks() {
+
+		Diagnosis diagnosis = diagnoses.save(new Diagnosis(UUID.randomUUID()));
+		List<Symptom> all = new ArrayList<>();
+
+		for (int i = 0; i < 5; i++) {
+			all.add(symptoms.save(new Symptom(UUID.randomUUID())));
+		}
+
+		List<Integer> lookups = new ArrayList<>();
+		AggregateMappingModule module = new AggregateMappingModule(new Repositories(context), conversions)
+				.metrics(new AggregateMappingMetrics() {
+
+					@Override
+					public void lookedUp(Class<?> aggregateType, int identifiers, long nanos) {
+
+						if (Symptom.class.equals(aggregateType)) {
+							lookups.add(identifiers);
+						}
+					}
+				});
+
+		ModelMapper mapper = new ModelMapper();
+		mapper.registerModule(module);
+
+		Stream<ReportSource> sources = all.stream().map(it -> {
+
+			ReportSource source = new ReportSource();
+			source.symptom = it.getId().toString();
+			source.diagnosis = diagnosis.getId();
+
+			return source;
+		});
+
+		List<ReportSink> sinks = module.createBulkMapper(mapper, 2).map(sources, ReportSink.class)
+				.collect(Collectors.toList());
+
+		assertThat(sinks).extracting(it -> it.symptom).containsExactlyElementsOf(all);
+		assertThat(sinks).extracting(it -> it.diagnosis).containsOnly(diagnosis);
+
+		// Resolved in chunks of two identifiers per aggregate type
+		assertThat(lookups).containsExactly(2, 2, 1);
+	}
+
+	@Test
+	void doesNotLookUpLazilyReferencedAggregatesWhenMappingInBulk() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+		Diagnosis diagnosis = diagnoses.save(new Diagnosis(UUID.randomUUID()));
+
+		List<Class<?>> lookups = new ArrayList<>();
+		AggregateMappingModule module = new AggregateMappingModule(new Repositories(context), conversions)
+				.referenceHandling(Symptom.class, ReferenceHandling.LAZY)
+				.metrics(new AggregateMappingMetrics() {
+
+					@Override
+					public void lookedUp(Class<?> aggregateType, int identifiers, long nanos) {
+						lookups.add(aggregateType);
+					}
+				});
+
+		ModelMapper mapper = new ModelMapper();
+		mapper.registerModule(module);
+
+		ReportSource source = new ReportSource();
+		source.symptom = symptom.getId().toString();
+		source.diagnosis = diagnosis.getId();
+
+		List<ReportSink> sinks = module.createBulkMapper(mapper, 2).map(Stream.of(source, source), ReportSink.class)
+				.collect(Collectors.toList());
+
+		assertThat(sinks).extracting(it -> it.symptom.getId()).containsOnly(id);
+		assertThat(sinks).extracting(it -> it.diagnosis).containsOnly(diagnosis);
+		assertThat(lookups).containsExactly(Diagnosis.class);
+	}
+
+	@Test
+	void consumesAtMostChunkSizeSourcesPerChunk() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+		Diagnosis diagnosis = diagnoses.save(new Diagnosis(UUID.randomUUID()));
+
+		AggregateMappingModule[] module = new AggregateMappingModule[1];
+		ModelMapper mapper = initMapper(it -> module[0] = it);
+
+		// All sources refer to the same aggregates, so that the identifiers never exceed the chunk size
+		AtomicInteger consumed = new AtomicInteger();
+		Stream<ReportSource> sources = Stream.generate(() -> {
+
+			ReportSource source = new ReportSource();
+			source.symptom = symptom.getId().toString();
+			source.diagnosis = diagnosis.getId();
+
+			return source;
+
+		}).limit(100).peek(__ -> consumed.incrementAndGet());
+
+		Optional<ReportSink> first = module[0].createBulkMapper(mapper, 3).map(sources, ReportSink.class).findFirst();
+
+		assertThat(first).hasValueSatisfying(it -> assertThat(it.diagnosis).isEqualTo(diagnosis));
+		assertThat(consumed).hasValue(3);
+	}
+
+	@Test
+	void resolvesReferencesReactively() {
+
+		Symptom symptom = symptoms.save(new Symptom(id));
+		Diagnosis diagnosis = diagnoses.save(new Diagnosis(UUID.randomUUID()));
+
+		List<Class<?>> lookups = new ArrayList<>();
+		AggregateMappingModule module = new AggregateMappingModule(new Repositories(context), conversions)
+				.register(new UriTemplateIdentifierProcessor().register(Symptom.class, "/symptoms/{id}"))
+				.metrics(new AggregateMappingMetrics() {
+
+					@Override
+					public void lookedUp(Class<?> aggregateType, int identifiers, long nanos) {
+						lookups.add(aggregateType);
+					}
+				});
+
+		ModelMapper mapper = new ModelMapper();
+		mapper.registerModule(module);
+
+		ReportSource source = new ReportSource();
+		source.symptom = VALID_URI;
+		source.diagnosis = diagnosis.getId();
+
+		ReportSink sink = module.createReactiveMapper(mapper).map(source, ReportSink.class).block();
+
+		assertThat(sink.symptom).isEqualTo(symptom);
+		assertThat(sink.diagnosis).isEqualTo(diagnosis);
+
+		// Resolved upfront only
+		assertThat(lookups).containsExactlyInAnyOrder(Symptom.class, Diagnosis.class);
+
+		source.diagnosis = UUID.randomUUID();
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> module.createReactiveMapper(mapper).map(source, ReportSink.class).block());
+	}
+
+	@Test
+	void resolvesReferencesThroughReactiveRepositories() {
+
+		Medication medication = medications.save(new Medication(UUID.randomUUID())).block();
+
+		AggregateMappingModule[] module = new AggregateMappingModule[1];
+		ModelMapper mapper = initMapper(it -> module[0] = it);
+
+		MedicationSource source = new MedicationSource();
+		source.medication = medication.getId();
+
+		MedicationSink sink = module[0].createReactiveMapper(mapper).map(source, MedicationSink.class).block();
+
+		assertThat(sink.medication).isEqualTo(medication);
+
+		// Nested references cannot be resolved upfront and must not be looked up blockingly
+		Medication other = medications.save(new Medication(UUID.randomUUID())).block();
+
+		source.nested = new MedicationSource();
+		source.nested.medication = other.getId();
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> module[0].createReactiveMapper(mapper).map(source, MedicationSink.class).block())
+				.satisfies(it -> assertThat(it.getErrorMessages())
+						.extracting(ErrorMessage::getCause)
+						.hasOnlyElementsOfType(IllegalStateException.class));
+	}
+
+	@Test
+	void collectsAllRejectedReferencesIfConfigured() {
+
+		symptoms.save(new Symptom(id));
+
+		ModelMapper mapper = initMapper(it -> it.failureReporting(FailureReporting.COLLECT));
+
+		ReferencesSource source = new ReferencesSource();
+		source.symptom = INVALID_URI;
+		source.symptoms = List.of(INVALID_URI, VALID_URI, "invalid", INVALID_URI);
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> mapper.map(source, ReferencesSink.class))
+				.satisfies(it -> {
+
+					assertThat(AggregateReferenceMappingException.of(it)).hasValueSatisfying(exception -> {
+						assertThat(exception.getFailedReferences())
+								.extracting(FailedReference::getPath)
+								.containsExactlyInAnyOrder("symptom", "symptoms[0]", "symptoms[2]", "symptoms[3]");
+						assertThat(exception.getErrorMessages()).hasSize(4);
+					});
+				});
+	}
+
+	@Test
+	void rejectsReferencesWithoutStackTraceIfConfigured() {
+
+		ModelMapper mapper = initMapper(it -> it.failureReporting(FailureReporting.COLLECT).rejectionStackTraces(false));
+
+		ReferencesSource source = new ReferencesSource();
+		source.symptom = INVALID_URI;
+		source.symptoms = List.of(INVALID_URI);
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> mapper.map(source, ReferencesSink.class))
+				.satisfies(it -> {
+
+					assertThat(it.getErrorMessages()).extracting(ErrorMessage::getCause)
+							.allSatisfy(cause -> {
+								assertThat(cause).isInstanceOf(AggregateReferenceMappingException.class);
+								assertThat(cause.getStackTrace()).isEmpty();
+								assertThat(cause.getMessage()).contains(Symptom.class.getName());
+							});
+
+					assertThat(AggregateReferenceMappingException.of(it)).hasValueSatisfying(exception -> {
+						assertThat(exception.getErrorMessages()).hasSize(2);
+					});
+				});
+	}
+
+	@Test
+	void reportsAllMissingReferencesOnValidation() {
+
+		symptoms.save(new Symptom(id));
+
+		ModelMapper mapper = initMapper();
+		AggregateMappingModule module = new AggregateMappingModule(new Repositories(context), conversions)
+				.register(new UriTemplateIdentifierProcessor().register(Symptom.class, "/symptoms/{id}"));
+
+		ReportSource report = new ReportSource();
+		report.symptom = INVALID_URI;
+		report.diagnosis = UUID.randomUUID();
+
+		assertThatExceptionOfType(AggregateReferenceMappingException.class)
+				.isThrownBy(() -> module.createValidator(mapper).validate(report, ReportSink.class))
+				.satisfies(it -> {
+					assertThat(it.getFailedReferences()).extracting(FailedReference::getPath)
+							.containsExactlyInAnyOrder("symptom", "diagnosis");
+					assertThat(it.getErrorMessages()).hasSize(2);
+				});
+
+		CollectionSource source = new CollectionSource();
+		source.symptoms = List.of(VALID_URI, INVALID_URI, "invalid");
+
+		assertThatExceptionOfType(AggregateReferenceMappingException.class)
+				.isThrownBy(() -> module.createValidator(mapper).validate(source, CollectionSink.class))
+				.satisfies(it -> assertThat(it.getFailedReferences())
+						.extracting(FailedReference::getPath, FailedReference::getSource)
+						.containsExactly(tuple("symptoms[1]", INVALID_URI), tuple("symptoms[2]", "invalid")));
+	}
+
+	@Test
+	void checksExistenceOfReferencesWithSingleLookupPerAggregateType() {
+
+		UUID otherId = UUID.randomUUID();
+
+		symptoms.save(new Symptom(id));
+		symptoms.save(new Symptom(otherId));
+
+		List<Integer> lookups = new ArrayList<>();
+
+		ModelMapper mapper = initMapper();
+		AggregateMappingModule module = new AggregateMappingModule(new Repositories(context), conversions)
+				.register(new UriTemplateIdentifierProcessor().register(Symptom.class, "/symptoms/{id}"))
+				.metrics(new AggregateMappingMetrics() {
+
+					@Override
+					public void lookedUp(Class<?> aggregateType, int identifiers, long nanos) {
+						lookups.add(identifiers);
+					}
+				});
+
+		CollectionSource source = new CollectionSource();
+		source.symptoms = List.of(VALID_URI, otherId.toString(), VALID_URI);
+
+		assertThatCode(() -> module.createValidator(mapper).validate(source, CollectionSink.class))
+				.doesNotThrowAnyException();
+
+		// Checked with a single lookup for all distinct identifiers
+		assertThat(lookups).containsExactly(2);
+	}
+
+	@Test
+	void validatesReferencesUsingExistenceQueryAndCaches() {
+
+		symptoms.save(new Symptom(id));
+		Diagnosis diagnosis = diagnoses.save(new Diagnosis(UUID.randomUUID()));
+
+		AggregateMappingModule[] module = new AggregateMappingModule[1];
+
+		ModelMapper mapper = initMapper(it -> {
+			module[0] = it.cache(Diagnosis.class, 10, Duration.ofMinutes(1))
+					.cacheMisses(Diagnosis.class, 10, Duration.ofMinutes(1));
+		});
+
+		AggregateReferenceValidator validator = module[0].createValidator(mapper);
+
+		ReportSource existing = new ReportSource();
+		existing.symptom = VALID_URI;
+		existing.diagnosis = diagnosis.getId();
+
+		ReportSource missing = new ReportSource();
+		missing.symptom = VALID_URI;
+		missing.diagnosis = UUID.randomUUID();
+
+		List<String> invocations = new ArrayList<>();
+		MethodInterceptor recorder = invocation -> {
+			invocations.add(invocation.getMethod().getName());
+			return invocation.proceed();
+		};
+
+		((Advised) diagnoses).addAdvice(0, recorder);
+
+		try {
+
+			// Checked via the existence query instead of loading the aggregates
+			assertThatCode(() -> validator.validate(existing, ReportSink.class)).doesNotThrowAnyException();
+			assertThatExceptionOfType(AggregateReferenceMappingException.class)
+					.isThrownBy(() -> validator.validate(missing, ReportSink.class));
+
+			assertThat(invocations).containsExactly("findExistingIds", "findExistingIds");
+
+			// Known miss rejected without querying the store again
+			invocations.clear();
+
+			assertThatExceptionOfType(AggregateReferenceMappingException.class)
+					.isThrownBy(() -> validator.validate(missing, ReportSink.class));
+
+			assertThat(invocations).isEmpty();
+
+			// Aggregate cached by a mapping considered existing without querying the store
+			assertThat(mapper.map(existing, ReportSink.class).diagnosis).isEqualTo(diagnosis);
+
+			invocations.clear();
+
+			assertThatCode(() -> validator.validate(existing, ReportSink.class)).doesNotThrowAnyException();
+
+			assertThat(invocations).isEmpty();
+
+		} finally {
+			((Advised) diagnoses).removeAdvice(recorder);
+		}
+	}
+
+	@Test
+	void doesNotRememberMissesLookedUpBeforeConcurrentEviction() {
+
+		symptoms.save(new Symptom(id));
+
+		AggregateMappingModule[] module = new AggregateMappingModule[1];
+		ModelMapper mapper = initMapper(it -> module[0] = it.cacheMisses(Diagnosis.class, 10, Duration.ofMinutes(1)));
+
+		AggregateReferenceValidator validator = module[0].createValidator(mapper);
+
+		ReportSource missing = new ReportSource();
+		missing.symptom = VALID_URI;
+		missing.diagnosis = UUID.randomUUID();
+
+		List<String> invocations = new ArrayList<>();
+		MethodInterceptor recorder = invocation -> {
+
+			invocations.add(invocation.getMethod().getName());
+
+			try {
+				return invocation.proceed();
+			} finally {
+				// Simulates a write evicting the misses while the lookup is still in flight
+				module[0].evict(Diagnosis.class);
+			}
+		};
+
+		((Advised) diagnoses).addAdvice(0, recorder);
+
+		try {
+
+			assertThatExceptionOfType(AggregateReferenceMappingException.class)
+					.isThrownBy(() -> validator.validate(missing, ReportSink.class));
+			assertThatExceptionOfType(AggregateReferenceMappingException.class)
+					.isThrownBy(() -> validator.validate(missing, ReportSink.class));
+
+			// Miss not remembered as it was looked up before the eviction
+			assertThat(invocations).containsExactly("findExistingIds", "findExistingIds");
+
+		} finally {
+			((Advised) diagnoses).removeAdvice(recorder);
+		}
+	}
+
+	@Test
+	void rejectsConfigurationChangesAfterRegistration() {
+
+		AggregateMappingModule[] module = new AggregateMappingModule[1];
+
+		initMapper(it -> module[0] = it);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> module[0].nullHandling(Symptom.class, NullHandling.RETURN_NULL));
+		assertThatIllegalStateException()
+				.isThrownBy(() -> module[0].cache(Symptom.class, 10, Duration.ofMinutes(1)));
+	}
+
 	private ModelMapper initMapper() {
 		return initMapper(__ -> {});
 	}
@@ -163,4 +1007,74 @@ class AggregateMappingModuleIntegrationTests {
 		Symptom symptom;
 		Symptom symptomUri;
 	}
+
+	@Data
+	static class MedicationSource {
+		UUID medication;
+		MedicationSource nested;
+	}
+
+	@Data
+	static class MedicationSink {
+		Medication medication;
+		MedicationSink nested;
+	}
+
+	@Data
+	static class ReportSource {
+		String symptom;
+		UUID diagnosis;
+	}
+
+	@Data
+	static class ReportSink {
+		Symptom symptom;
+		Diagnosis diagnosis;
+	}
+
+	@Data
+	static class TreatmentSource {
+		String prescription;
+		Integer renewal;
+		String treatment;
+	}
+
+	@Data
+	static class TreatmentSink {
+		Prescription prescription;
+		Prescription renewal;
+		Treatment treatment;
+	}
+
+	@Data
+	static class PrimitivePrescriptionSource {
+		long prescription;
+	}
+
+	@Data
+	static class PrescriptionSink {
+		Prescription prescription;
+	}
+
+	@Data
+	static class ReferencesSource {
+		String symptom;
+		List<String> symptoms;
+	}
+
+	@Data
+	static class ReferencesSink {
+		Symptom symptom;
+		List<Symptom> symptoms;
+	}
+
+	@Data
+	static class CollectionSource {
+		List<String> symptoms;
+	}
+
+	@Data
+	static class CollectionSink {
+		List<Symptom> symptoms;
+	}
 }
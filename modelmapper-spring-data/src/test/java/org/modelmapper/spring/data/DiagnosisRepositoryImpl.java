@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+
+/**
+ * @author Oliver Drotbohm
+ */
+@RequiredArgsConstructor
+class DiagnosisRepositoryImpl implements AggregateExistenceQuery<UUID> {
+
+	private final KeyValueOperations operations;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.modelmapper.spring.data.AggregateExistenceQuery#findExistingIds(java.util.Collection)
+	 */
+	@Override
+	public Set<UUID> findExistingIds(Collection<UUID> ids) {
+
+		return ids.stream()
+				.filter(it -> operations.findById(it, Diagnosis.class).isPresent())
+				.collect(Collectors.toSet());
+	}
+}
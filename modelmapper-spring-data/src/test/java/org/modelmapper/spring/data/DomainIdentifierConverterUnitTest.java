@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+/**
+ * @author Oliver Drotbohm
+ */
+class DomainIdentifierConverterUnitTest {
+
+	private final ConversionService conversions = new DefaultConversionService();
+	private final DomainIdentifierConverter longs = DomainIdentifierConverter.of(long.class, conversions);
+	private final DomainIdentifierConverter integers = DomainIdentifierConverter.of(Integer.class, conversions);
+
+	@Test
+	void narrowsIntegralNumbers() {
+
+		assertThat(longs.convert(42)).isEqualTo(42L);
+		assertThat(longs.convert(42.0d)).isEqualTo(42L);
+		assertThat(longs.convert(new BigDecimal("42.00"))).isEqualTo(42L);
+		assertThat(longs.convert(BigInteger.valueOf(42))).isEqualTo(42L);
+
+		assertThat(integers.convert(42L)).isEqualTo(42);
+		assertThat(integers.convert(42.0f)).isEqualTo(42);
+	}
+
+	@Test
+	void parsesDecimalAndHexadecimalStrings() {
+
+		assertThat(longs.convert("42")).isEqualTo(42L);
+		assertThat(longs.convert("0x2A")).isEqualTo(42L);
+		assertThat(longs.convert("#2A")).isEqualTo(42L);
+
+		assertThat(integers.convert("-42")).isEqualTo(-42);
+		assertThat(integers.convert("0x2A")).isEqualTo(42);
+	}
+
+	@Test
+	void rejectsNumbersThatCannotBeNarrowedExactly() {
+
+		List.of(42.5d, new BigDecimal("42.1"), Double.NaN, Double.POSITIVE_INFINITY,
+				BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE))
+				.forEach(it -> assertThatIllegalArgumentException()
+						.as("Converting %s into a Long", it)
+						.isThrownBy(() -> longs.convert(it)));
+
+		List.of(42.5d, Integer.MAX_VALUE + 1L, new BigDecimal("1E10"))
+				.forEach(it -> assertThatIllegalArgumentException()
+						.as("Converting %s into an Integer", it)
+						.isThrownBy(() -> integers.convert(it)));
+	}
+}
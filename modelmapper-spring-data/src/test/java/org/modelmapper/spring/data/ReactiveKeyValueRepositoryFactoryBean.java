@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spring.data;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.PersistentEntityInformation;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Creates reactive repositories backed by a {@link KeyValueOperations}, as Spring Data KeyValue does not support
+ * reactive ones out of the box.
+ *
+ * @author Oliver Drotbohm
+ */
+class ReactiveKeyValueRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
+		extends RepositoryFactoryBeanSupport<T, S, ID> {
+
+	private final KeyValueOperations operations;
+
+	ReactiveKeyValueRepositoryFactoryBean(Class<? extends T> repositoryInterface, KeyValueOperations operations) {
+
+		super(repositoryInterface);
+
+		this.operations = operations;
+
+		setMappingContext(operations.getMappingContext());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#createRepositoryFactory()
+	 */
+	@Override
+	protected RepositoryFactorySupport createRepositoryFactory() {
+
+		return new ReactiveRepositoryFactorySupport() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <E, I> EntityInformation<E, I> getEntityInformation(Class<E> domainClass) {
+
+				PersistentEntity<E, ?> entity = (PersistentEntity<E, ?>) operations.getMappingContext()
+						.getRequiredPersistentEntity(domainClass);
+
+				return new PersistentEntityInformation<>(entity);
+			}
+
+			@Override
+			protected Object getTargetRepository(RepositoryInformation metadata) {
+				return new ReactiveKeyValueRepository<>(getEntityInformation(metadata.getDomainType()), operations);
+			}
+
+			@Override
+			protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+				return ReactiveKeyValueRepository.class;
+			}
+		};
+	}
+
+	/**
+	 * A {@link ReactiveCrudRepository} wrapping the blocking {@link KeyValueOperations}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	static class ReactiveKeyValueRepository<T, ID> implements ReactiveCrudRepository<T, ID> {
+
+		private final EntityInformation<T, ID> information;
+		private final KeyValueOperations operations;
+
+		@Override
+		public <S extends T> Mono<S> save(S entity) {
+			return Mono.fromSupplier(() -> operations.update(information.getRequiredId(entity), entity));
+		}
+
+		@Override
+		public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+			return Flux.fromIterable(entities).concatMap(this::save);
+		}
+
+		@Override
+		public <S extends T> Flux<S> saveAll(Publisher<S> entities) {
+			return Flux.from(entities).concatMap(this::save);
+		}
+
+		@Override
+		public Mono<T> findById(ID id) {
+			return Mono.defer(() -> Mono.justOrEmpty(operations.findById(id, information.getJavaType())));
+		}
+
+		@Override
+		public Mono<T> findById(Publisher<ID> id) {
+			return Mono.from(id).flatMap(this::findById);
+		}
+
+		@Override
+		public Mono<Boolean> existsById(ID id) {
+			return findById(id).hasElement();
+		}
+
+		@Override
+		public Mono<Boolean> existsById(Publisher<ID> id) {
+			return Mono.from(id).flatMap(this::existsById);
+		}
+
+		@Override
+		public Flux<T> findAll() {
+			return Flux.defer(() -> Flux.fromIterable(operations.findAll(information.getJavaType())));
+		}
+
+		@Override
+		public Flux<T> findAllById(Iterable<ID> ids) {
+			return Flux.fromIterable(ids).concatMap(this::findById);
+		}
+
+		@Override
+		public Flux<T> findAllById(Publisher<ID> ids) {
+			return Flux.from(ids).concatMap(this::findById);
+		}
+
+		@Override
+		public Mono<Long> count() {
+			return Mono.fromSupplier(() -> operations.count(information.getJavaType()));
+		}
+
+		@Override
+		public Mono<Void> deleteById(ID id) {
+			return Mono.fromRunnable(() -> operations.delete(id, information.getJavaType()));
+		}
+
+		@Override
+		public Mono<Void> deleteById(Publisher<ID> id) {
+			return Mono.from(id).flatMap(this::deleteById);
+		}
+
+		@Override
+		public Mono<Void> delete(T entity) {
+			return deleteById(information.getRequiredId(entity));
+		}
+
+		@Override
+		public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+			return Flux.fromIterable(ids).concatMap(this::deleteById).then();
+		}
+
+		@Override
+		public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+			return Flux.fromIterable(entities).concatMap(this::delete).then();
+		}
+
+		@Override
+		public Mono<Void> deleteAll(Publisher<? extends T> entities) {
+			return Flux.from(entities).concatMap(this::delete).then();
+		}
+
+		@Override
+		public Mono<Void> deleteAll() {
+			return Mono.fromRunnable(() -> operations.delete(information.getJavaType()));
+		}
+	}
+}
@@ -1,8 +1,10 @@
 package org.modelmapper.spring.data;
 
+import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.data.map.repository.config.EnableMapRepositories;
 
 @Configuration
-@EnableMapRepositories
+@EnableMapRepositories(excludeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MedicationRepository.class))
 public class TestConfiguration {}
@@ -18,9 +18,12 @@ package org.modelmapper.spring.data;
 import static org.assertj.core.api.Assertions.*;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriTemplate;
 
 /**
  * @author Oliver Drotbohm
@@ -62,4 +65,88 @@ class UriTemplateIdentifierProcessorUnitTest {
 		assertThat(processor.postProcessIdentifier(ID_STRING, Symptom.class, String.class)).isEqualTo(VALID_URI);
 		assertThat(processor.postProcessIdentifier(ID_STRING, Symptom.class, URI.class)).isEqualTo(VALID_URI);
 	}
+
+	@Test
+	void extractsIdentifierLikeUriTemplate() {
+
+		Map<String, List<String>> fixtures = Map.of(
+				"/symptoms/{id}", List.of(VALID_URI_STRING, "http://localhost" + VALID_URI_STRING, "/symptoms/",
+						"/symptoms/foo/bar", "/other/" + ID_STRING, "/"),
+				"/symptoms/{id}/details", List.of("/symptoms/" + ID_STRING + "/details", "/symptoms/details",
+						"/symptoms/a/b/details", "/symptoms/a/details/b/details", "/symptoms/a/b/symptoms/c/details"),
+				"{id}", List.of(ID_STRING, "/" + ID_STRING),
+				"/{tenant}/symptoms/{id}", List.of("/foo/symptoms/" + ID_STRING, "/symptoms/" + ID_STRING),
+				"/symptoms/{id:[0-9]+}", List.of("/symptoms/4711", VALID_URI_STRING));
+
+		fixtures.forEach((template, uris) -> {
+
+			UriTemplate uriTemplate = new UriTemplate(template);
+			UriTemplateIdentifierExtractor extractor = UriTemplateIdentifierExtractor.of(uriTemplate, "id");
+
+			uris.forEach(uri -> assertThat(extractor.extract(uri))
+					.as("Extracting from %s using %s", uri, template)
+					.isEqualTo(uriTemplate.match(uri).get("id")));
+		});
+	}
+
+	@Test
+	void rejectsVariableNotContainedInTemplate() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> UriTemplateIdentifierExtractor.of(new UriTemplate("/{tenant}/symptoms/{id}"), "foo"))
+				.withMessageContaining("foo");
+	}
+
+	@Test
+	void rendersUriLikeUriTemplate() {
+
+		List<String> templates = List.of("/symptoms/{id}", "http://localhost:8080/symptoms/{id}/details", "{id}",
+				"/symptoms/{id:[0-9a-f-]+}", "/symptoms?id={id}", "/symptoms/{id}#fragment", "/sym ptoms/{id}");
+		List<Object> identifiers = List.of(ID, 4711L, "foo bar", "f\u00f6\u00f6", "a/b", "a%b", "a?b", "a#b", "a+b");
+
+		templates.forEach(template -> {
+
+			UriTemplate uriTemplate = new UriTemplate(template);
+			UriTemplateIdentifierRenderer renderer = UriTemplateIdentifierRenderer.of(uriTemplate, "id");
+
+			identifiers.forEach(identifier -> assertThat(renderer.apply(identifier))
+					.as("Rendering %s using %s", identifier, template)
+					.isEqualTo(uriTemplate.expand(identifier)));
+		});
+	}
+
+	@Test
+	void reusesCachedUrisIfConfigured() {
+
+		AggregateIdentifierProcessor processor = new UriTemplateIdentifierProcessor()
+				.register(Symptom.class, "/symptoms/{id}")
+				.setUriCacheSize(10);
+
+		Object uri = processor.postProcessIdentifier(ID, Symptom.class, URI.class);
+
+		assertThat(uri).isEqualTo(VALID_URI);
+		assertThat(processor.postProcessIdentifier(ID, Symptom.class, URI.class)).isSameAs(uri);
+	}
+
+	@Test
+	void appliesConfigurationToSubtypesAndSupportsSupertypes() {
+
+		UriTemplateIdentifierProcessor processor = new UriTemplateIdentifierProcessor()
+				.register(Symptom.class, "/symptoms/{id}");
+
+		assertThat(processor.supports(Symptom.class)).isTrue();
+		assertThat(processor.supports(SpecialSymptom.class)).isTrue();
+		assertThat(processor.supports(Object.class)).isTrue();
+		assertThat(processor.supports(String.class)).isFalse();
+
+		assertThat(processor.preProcessIdentifier(VALID_URI, SpecialSymptom.class)).isEqualTo(ID_STRING);
+		assertThat(processor.postProcessIdentifier(ID, SpecialSymptom.class, URI.class)).isEqualTo(VALID_URI);
+	}
+
+	static class SpecialSymptom extends Symptom {
+
+		SpecialSymptom(UUID id) {
+			super(id);
+		}
+	}
 }
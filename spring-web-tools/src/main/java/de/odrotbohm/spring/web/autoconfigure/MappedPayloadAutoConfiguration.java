@@ -21,7 +21,9 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -34,17 +36,35 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 @AutoConfiguration
 @RequiredArgsConstructor
 @EnableConfigurationProperties(MappedPayloadProperties.class)
-class MappedPayloadAutoConfiguration implements WebMvcConfigurer {
+class MappedPayloadAutoConfiguration implements WebMvcConfigurer, SmartInitializingSingleton {
 
 	private final ObjectFactory<RequestMappingHandlerAdapter> adapter;
 	private final MappedPayloadProperties configuration;
 
+	private @Nullable MappedPayloadHandlerMethodArgumentResolver resolver;
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.config.annotation.WebMvcConfigurer#addArgumentResolvers(java.util.List)
 	 */
 	@Override
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-		resolvers.add(new MappedPayloadHandlerMethodArgumentResolver(() -> adapter.getObject(), configuration));
+
+		this.resolver = new MappedPayloadHandlerMethodArgumentResolver(() -> adapter.getObject(), configuration);
+
+		resolvers.add(resolver);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		// The resolver is not a bean itself, so trigger the eager lookup of its delegates
+		if (resolver != null) {
+			resolver.afterSingletonsInstantiated();
+		}
 	}
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.odrotbohm.spring.web.autoconfigure;
+
+import de.odrotbohm.spring.web.mvc.MappedPayloadProperties;
+import de.odrotbohm.spring.web.webflux.ReactiveMappedPayloadHandlerMethodArgumentResolver;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Registers a {@link ReactiveMappedPayloadHandlerMethodArgumentResolver} in Spring WebFlux applications.
+ *
+ * @author Oliver Drotbohm
+ */
+@AutoConfiguration
+@RequiredArgsConstructor
+@ConditionalOnClass(WebFluxConfigurer.class)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(MappedPayloadProperties.class)
+class ReactiveMappedPayloadAutoConfiguration implements WebFluxConfigurer {
+
+	private final ObjectProvider<ServerCodecConfigurer> codecs;
+	private final ObjectProvider<ReactiveAdapterRegistry> registry;
+	private final MappedPayloadProperties configuration;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.config.WebFluxConfigurer#configureArgumentResolvers(org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer)
+	 */
+	@Override
+	public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+
+		configurer.addCustomResolver(new ReactiveMappedPayloadHandlerMethodArgumentResolver(
+				codecs.getObject().getReaders(), registry.getIfUnique(ReactiveAdapterRegistry::getSharedInstance),
+				configuration));
+	}
+}
@@ -15,15 +15,16 @@
  */
 package de.odrotbohm.spring.web.model;
 
-import lombok.AccessLevel;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -87,6 +88,33 @@ public interface MappedPayloads {
 		return MappedPayload.of(source.orElse(null), errors);
 	}
 
+	/**
+	 * Creates a new {@link DeferredMappedPayload} for the given source instance, only executing the pipeline steps once
+	 * it's concluded.
+	 *
+	 * @param <T>
+	 * @param payload must not be {@literal null}.
+	 * @param errors must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> DeferredMappedPayload<T> deferred(@Nullable T payload, Errors errors) {
+		return of(payload, errors).defer();
+	}
+
+	/**
+	 * Creates a new {@link DeferredMappedPayload} of the given source and {@link Errors}, only executing the pipeline
+	 * steps once it's concluded. If the source is empty, a {@link HttpStatus#NOT_FOUND} will be produced without
+	 * executing any of the steps.
+	 *
+	 * @param <T>
+	 * @param source must not be {@literal null}.
+	 * @param errors must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> DeferredMappedPayload<T> deferred(Optional<T> source, Errors errors) {
+		return of(source, errors).defer();
+	}
+
 	/**
 	 * Syntactic sugar to easily create a {@link HttpStatus#BAD_REQUEST} response from an {@link Errors} instance in a
 	 * {@link Stream} mapping step or the like.
@@ -99,20 +127,44 @@ public interface MappedPayloads {
 	}
 
 	@CheckReturnValue
-	@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 	public static class MappedErrors {
 
-		private final @NonNull Errors errors;
-		private final Map<String, Object> details;
+		private static final BiConsumer<Errors, ProblemDetail> NO_CUSTOMIZATION = (__, ___) -> {};
+
+		private final Errors errors;
+		private final ProblemDetailsProperties details;
 		protected final Function<Errors, ResponseEntity<?>> onErrors;
 		private final BiConsumer<Errors, ProblemDetail> customizer;
 
 		private MappedErrors(Errors errors) {
+			this(errors, new ProblemDetailsProperties(), MappedPayloads::toBadRequest, NO_CUSTOMIZATION);
+		}
+
+		/**
+		 * Creates a new {@link MappedErrors} for the given {@link Errors}, additional details, error handler and
+		 * {@link ProblemDetail} customizer.
+		 *
+		 * @param errors must not be {@literal null}.
+		 * @param details the additional details to be exposed in the {@link ProblemDetail}, shared by all steps of a
+		 *          pipeline, must not be {@literal null}.
+		 * @param onErrors must not be {@literal null}.
+		 * @param customizer must not be {@literal null}.
+		 */
+		protected MappedErrors(Errors errors, Map<String, Object> details,
+				Function<Errors, ResponseEntity<?>> onErrors, BiConsumer<Errors, ProblemDetail> customizer) {
+
+			this(errors, new ProblemDetailsProperties(details), onErrors, customizer);
+		}
+
+		private MappedErrors(Errors errors, ProblemDetailsProperties details,
+				Function<Errors, ResponseEntity<?>> onErrors, BiConsumer<Errors, ProblemDetail> customizer) {
+
+			Assert.notNull(errors, "Errors must not be null!");
 
 			this.errors = errors;
-			this.details = new LinkedHashMap<>();
-			this.onErrors = MappedPayloads::toBadRequest;
-			this.customizer = (err, details) -> {};
+			this.details = details;
+			this.onErrors = onErrors;
+			this.customizer = customizer;
 		}
 
 		/**
@@ -143,7 +195,7 @@ public interface MappedPayloads {
 
 		public MappedErrors reject(Consumer<Map<String, Object>> details) {
 
-			details.accept(this.details);
+			details.accept(this.details.get());
 
 			return this;
 		}
@@ -151,7 +203,7 @@ public interface MappedPayloads {
 		public MappedErrors reject(String errorCode, Consumer<Map<String, Object>> details) {
 
 			errors.reject(errorCode);
-			details.accept(this.details);
+			details.accept(this.details.get());
 
 			return this;
 		}
@@ -240,7 +292,8 @@ public interface MappedPayloads {
 		public ResponseEntity<?> toBadRequest() {
 
 			var details = ProblemDetailsWithErrors.of(errors);
-			details.setProperties(this.details);
+
+			this.details.applyTo(details);
 
 			customizer.accept(errors, details);
 
@@ -258,7 +311,9 @@ public interface MappedPayloads {
 
 			Assert.notNull(response, "Response supplier must not be null!");
 
-			return errorsOrNone().orElseGet(response);
+			var errorResponse = getErrorResponse();
+
+			return errorResponse != null ? errorResponse : response.get();
 		}
 
 		/**
@@ -296,17 +351,67 @@ public interface MappedPayloads {
 			return new MappedErrors(errors, details, onErrors, customizer);
 		}
 
+		/**
+		 * Returns the response to produce for the accumulated errors or {@literal null} if no errors have been accumulated.
+		 *
+		 * @return can be {@literal null}.
+		 */
+		protected @Nullable ResponseEntity<?> getErrorResponse() {
+			return errors.hasErrors() ? onErrors.apply(errors) : null;
+		}
+
+		/**
+		 * Returns the response to produce for the accumulated errors if any have been accumulated.
+		 *
+		 * @return will never be {@literal null}.
+		 * @deprecated use {@link #getErrorResponse()} instead, which doesn't need to allocate an {@link Optional}.
+		 */
+		@Deprecated
 		protected Optional<ResponseEntity<?>> errorsOrNone() {
+			return Optional.ofNullable(getErrorResponse());
+		}
 
-			return errors.hasErrors()
-					? Optional.of(onErrors.apply(errors))
-					: Optional.empty();
+		/**
+		 * The additional properties to be exposed in the {@link ProblemDetail} produced for a pipeline. Shared by all steps
+		 * of the pipeline, but only allocates the actual {@link Map} once details get registered.
+		 *
+		 * @author Oliver Drotbohm
+		 */
+		private static class ProblemDetailsProperties {
+
+			private @Nullable Map<String, Object> properties;
+
+			ProblemDetailsProperties() {}
+
+			ProblemDetailsProperties(Map<String, Object> properties) {
+
+				Assert.notNull(properties, "Details must not be null!");
+
+				this.properties = properties;
+			}
+
+			Map<String, Object> get() {
+
+				if (properties == null) {
+					properties = new LinkedHashMap<>();
+				}
+
+				return properties;
+			}
+
+			void applyTo(ProblemDetail detail) {
+
+				if (properties != null && !properties.isEmpty()) {
+					detail.setProperties(properties);
+				}
+			}
 		}
 	}
 
 	/**
 	 * A monadic type to work with a mapped payload alongside {@link Errors} to build up pipelines to eventually result in
-	 * an {@link HttpEntity} based on the processing steps.
+	 * an {@link HttpEntity} based on the processing steps. Every step creates at most a single, immutable instance that
+	 * shares all other state with its predecessor.
 	 *
 	 * @author Oliver Drotbohm
 	 */
@@ -341,16 +446,16 @@ public interface MappedPayloads {
 			Assert.notNull(onAbsence, "Abscence callback must not be null!");
 			Assert.notNull(onErrors, "Errors callback must not be null!");
 
-			return new MappedPayload<>(payload, errors, onErrors, onAbsence);
+			return new MappedPayload<>(payload, errors, new MappedErrors.ProblemDetailsProperties(), onErrors,
+					MappedErrors.NO_CUSTOMIZATION,
+					onAbsence);
 		}
 
-		private MappedPayload(@Nullable T payload, Errors errors,
-				Function<Errors, ResponseEntity<?>> onErrors,
+		private MappedPayload(@Nullable T payload, Errors errors, MappedErrors.ProblemDetailsProperties details,
+				Function<Errors, ResponseEntity<?>> onErrors, BiConsumer<Errors, ProblemDetail> customizer,
 				Supplier<ResponseEntity<?>> onAbsence) {
 
-			super(errors, new LinkedHashMap<>(), onErrors, (err, details) -> {});
-
-			Assert.notNull(onAbsence, "Absence callback must not be null!");
+			super(errors, details, onErrors, customizer);
 
 			this.errors = errors;
 			this.payload = payload;
@@ -500,7 +605,7 @@ public interface MappedPayloads {
 
 			return payload == null
 					? (MappedPayload<S>) this
-					: mapper.apply(payload).map(this::withPayload).orElseGet(this::withoutPayload);
+					: withPayloadIfPresent(mapper.apply(payload));
 		}
 
 		/**
@@ -528,9 +633,7 @@ public interface MappedPayloads {
 
 			return errors.hasErrors() || payload == null
 					? (MappedPayload<S>) this
-					: mapper.apply(payload)
-							.map(this::withPayload)
-							.orElseGet(this::withoutPayload);
+					: withPayloadIfPresent(mapper.apply(payload));
 		}
 
 		public <S> MappedPayload<S> map(BiFunction<? super T, Errors, S> mapper) {
@@ -554,7 +657,7 @@ public interface MappedPayloads {
 
 			Assert.notNull(callback, "Callback must not be null!");
 
-			return of(payload, errors, callback, onAbsence);
+			return new MappedPayload<>(payload, errors, super.details, callback, super.customizer, onAbsence);
 		}
 
 		/*
@@ -582,7 +685,7 @@ public interface MappedPayloads {
 
 			Assert.notNull(callback, "Callback must not be null!");
 
-			return of(payload, errors, onErrors, callback);
+			return new MappedPayload<>(payload, errors, super.details, onErrors, super.customizer, callback);
 		}
 
 		/**
@@ -600,7 +703,8 @@ public interface MappedPayloads {
 
 			errors.rejectValue(field, errorCode);
 
-			return of(payload, errors, onErrors, () -> onErrors.apply(errors));
+			return new MappedPayload<>(payload, errors, super.details, onErrors, super.customizer,
+					() -> onErrors.apply(errors));
 		}
 
 		/**
@@ -615,7 +719,9 @@ public interface MappedPayloads {
 
 			Assert.notNull(finalizer, "Finalizer must not be null!");
 
-			return (R) errorsOrNone().orElseGet(() -> finalizer.apply(payload));
+			var errorResponse = getErrorResponse();
+
+			return errorResponse != null ? (R) errorResponse : finalizer.apply(payload);
 		}
 
 		/**
@@ -629,7 +735,9 @@ public interface MappedPayloads {
 
 			Assert.notNull(finalizer, "Finalizer must not be null!");
 
-			return errorsOrNone().orElseGet(() -> finalizer.apply(payload, errors));
+			var errorResponse = getErrorResponse();
+
+			return errorResponse != null ? errorResponse : finalizer.apply(payload, errors);
 		}
 
 		/**
@@ -644,7 +752,9 @@ public interface MappedPayloads {
 
 			Assert.notNull(finalizer, "Finalizer must not be null!");
 
-			return errorsOrNone().orElseGet(() -> finalizer.apply(payload, this));
+			var errorResponse = getErrorResponse();
+
+			return errorResponse != null ? errorResponse : finalizer.apply(payload, this);
 		}
 
 		/**
@@ -736,26 +846,562 @@ public interface MappedPayloads {
 			return this;
 		}
 
+		/**
+		 * Applies the given asynchronous {@link Function} if no errors have been accumulated or we're on a path to a
+		 * {@link HttpStatus#NOT_FOUND} yet. A {@literal null} result produces an {@link HttpStatus#NOT_FOUND}.
+		 *
+		 * @param <S>
+		 * @param mapper must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		@SuppressWarnings("unchecked")
+		public <S> AsyncMappedPayload<S> mapAsync(Function<? super T, ? extends CompletionStage<S>> mapper) {
+
+			Assert.notNull(mapper, "Mapper must not be null!");
+
+			return isValid()
+					? new AsyncMappedPayload<>(mapper.apply(payload).thenApply(this::withPayload))
+					: new AsyncMappedPayload<>((MappedPayload<S>) this);
+		}
+
+		/**
+		 * Applies the given asynchronous {@link Function} if no errors have been accumulated or we're on a path to a
+		 * {@link HttpStatus#NOT_FOUND} yet. An empty result produces an {@link HttpStatus#NOT_FOUND}.
+		 *
+		 * @param <S>
+		 * @param mapper must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		@SuppressWarnings("unchecked")
+		public <S> AsyncMappedPayload<S> flatMapAsync(Function<? super T, ? extends CompletionStage<Optional<S>>> mapper) {
+
+			Assert.notNull(mapper, "Mapper must not be null!");
+
+			return isValid()
+					? new AsyncMappedPayload<>(mapper.apply(payload).thenApply(this::withPayloadIfPresent))
+					: new AsyncMappedPayload<>((MappedPayload<S>) this);
+		}
+
+		/**
+		 * Concludes the processing of the current payload with the given asynchronous finalizer, but automatically
+		 * produces an error response via the callbacks registered for {@link #onErrors} and {@link #onAbsence}. The
+		 * result can be returned from Spring MVC handler methods to release the request thread while the finalizer runs.
+		 *
+		 * @param finalizer must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public CompletableFuture<ResponseEntity<?>> concludeIfValidAsync(
+				Function<? super T, ? extends CompletionStage<? extends ResponseEntity<?>>> finalizer) {
+
+			Assert.notNull(finalizer, "Finalizer must not be null!");
+
+			var errorResponse = getErrorResponse();
+
+			return errorResponse != null
+					? CompletableFuture.completedFuture(errorResponse)
+					: finalizer.apply(payload).<ResponseEntity<?>> thenApply(Function.identity()).toCompletableFuture();
+		}
+
+		/**
+		 * Applies the given {@link Function} to the payload if no errors have been accumulated or we're on a path to a
+		 * {@link HttpStatus#NOT_FOUND} yet, the given fallback to the current instance otherwise. Allows to continue the
+		 * pipeline with asynchronous programming models other than {@link CompletionStage}, e.g. Project Reactor. The
+		 * fallback usually either continues the pipeline with the current instance or concludes it, which will produce the
+		 * response for the accumulated errors or the absence of the payload.
+		 *
+		 * @param <R> the type of the result.
+		 * @param function must not be {@literal null}.
+		 * @param fallback must not be {@literal null}.
+		 * @return the result of either of the given functions.
+		 */
+		public <R> R foldIfValid(Function<? super T, R> function, Function<? super MappedPayload<T>, R> fallback) {
+
+			Assert.notNull(function, "Function must not be null!");
+			Assert.notNull(fallback, "Fallback must not be null!");
+
+			return isValid() ? function.apply(payload) : fallback.apply(this);
+		}
+
+		/**
+		 * Turns the current {@link MappedPayload} into a {@link DeferredMappedPayload} that records all subsequent steps
+		 * and only executes them once concluded, skipping all steps following one that leads to an error or absence
+		 * response.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public DeferredMappedPayload<T> defer() {
+			return new DeferredMappedPayload<>(this);
+		}
+
+		/**
+		 * Returns whether the pipeline is still on the path to a successful response, i.e. the payload is present and no
+		 * errors have been accumulated yet.
+		 *
+		 * @return
+		 */
+		private boolean isValid() {
+			return payload != null && !errors.hasErrors();
+		}
+
 		private <S> MappedPayload<S> withoutPayload() {
-			return of(null, errors, onErrors, onAbsence);
+			return withPayload(null);
 		}
 
-		private <S> MappedPayload<S> withPayload(S payload) {
-			return of(payload, errors, onErrors, onAbsence);
+		private <S> MappedPayload<S> withPayload(@Nullable S payload) {
+			return new MappedPayload<>(payload, errors, super.details, onErrors, super.customizer, onAbsence);
 		}
 
-		/*
-		 * (non-Javadoc)
-		 * @see de.odrotbohm.spring.web.model.MappedPayloads.MappedErrors#errorsOrNone()
+		private <S> MappedPayload<S> withPayloadIfPresent(Optional<S> payload) {
+			return withPayload(payload.orElse(null));
+		}
+
+		/**
+		 * Returns the response to produce for the accumulated errors or the absence of the payload or {@literal null} if
+		 * the payload is present and no errors have been accumulated.
+		 *
+		 * @return can be {@literal null}.
 		 */
 		@Override
-		protected Optional<ResponseEntity<?>> errorsOrNone() {
+		protected @Nullable ResponseEntity<?> getErrorResponse() {
+			return payload == null ? onAbsence.get() : super.getErrorResponse();
+		}
+	}
+
+	/**
+	 * A {@link MappedPayload} that is only available once previous asynchronous steps have completed. Allows to continue
+	 * the pipeline and eventually conclude it into a {@link CompletableFuture} of the response, which Spring MVC handler
+	 * methods can return to release the request thread while downstream calls are running.
+	 *
+	 * @author Oliver Drotbohm
+	 * @see MappedPayload#mapAsync(Function)
+	 * @see MappedPayload#flatMapAsync(Function)
+	 */
+	@CheckReturnValue
+	public static class AsyncMappedPayload<T> {
+
+		private final CompletionStage<MappedPayload<T>> payload;
+
+		private AsyncMappedPayload(MappedPayload<T> payload) {
+			this(CompletableFuture.completedFuture(payload));
+		}
+
+		private AsyncMappedPayload(CompletionStage<MappedPayload<T>> payload) {
+			this.payload = payload;
+		}
+
+		/**
+		 * Applies the given {@link Function} once the payload is available if no errors have been accumulated or we're on
+		 * a path to a {@link HttpStatus#NOT_FOUND} yet.
+		 *
+		 * @param <S>
+		 * @param mapper must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#mapIfValid(Function)
+		 */
+		public <S> AsyncMappedPayload<S> mapIfValid(Function<? super T, S> mapper) {
+
+			Assert.notNull(mapper, "Mapper must not be null!");
+
+			return new AsyncMappedPayload<>(payload.thenApply(it -> it.mapIfValid(mapper)));
+		}
+
+		/**
+		 * Applies the given asynchronous {@link Function} once the payload is available if no errors have been
+		 * accumulated or we're on a path to a {@link HttpStatus#NOT_FOUND} yet.
+		 *
+		 * @param <S>
+		 * @param mapper must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#mapAsync(Function)
+		 */
+		public <S> AsyncMappedPayload<S> mapAsync(Function<? super T, ? extends CompletionStage<S>> mapper) {
+
+			Assert.notNull(mapper, "Mapper must not be null!");
+
+			return new AsyncMappedPayload<>(payload.thenCompose(it -> it.mapAsync(mapper).payload));
+		}
+
+		/**
+		 * Applies the given asynchronous {@link Function} once the payload is available if no errors have been
+		 * accumulated or we're on a path to a {@link HttpStatus#NOT_FOUND} yet.
+		 *
+		 * @param <S>
+		 * @param mapper must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#flatMapAsync(Function)
+		 */
+		public <S> AsyncMappedPayload<S> flatMapAsync(Function<? super T, ? extends CompletionStage<Optional<S>>> mapper) {
+
+			Assert.notNull(mapper, "Mapper must not be null!");
+
+			return new AsyncMappedPayload<>(payload.thenCompose(it -> it.flatMapAsync(mapper).payload));
+		}
+
+		/**
+		 * Registers a {@link Function} to turn the accumulated {@link Errors} into a response.
+		 *
+		 * @param callback must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#onErrors(Function)
+		 */
+		public AsyncMappedPayload<T> onErrors(Function<Errors, ResponseEntity<?>> callback) {
+
+			Assert.notNull(callback, "Callback must not be null!");
+
+			return new AsyncMappedPayload<>(payload.thenApply(it -> it.onErrors(callback)));
+		}
+
+		/**
+		 * Registers a {@link Supplier} for the response to produce if errors have been accumulated.
+		 *
+		 * @param callback must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#onErrors(Supplier)
+		 */
+		public AsyncMappedPayload<T> onErrors(Supplier<ResponseEntity<?>> callback) {
+
+			Assert.notNull(callback, "Callback must not be null!");
+
+			return onErrors(__ -> callback.get());
+		}
+
+		/**
+		 * Registers a {@link Supplier} for the response to produce if the pipeline yields the absence of a payload.
+		 *
+		 * @param callback must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#onAbsence(Supplier)
+		 */
+		public AsyncMappedPayload<T> onAbsence(Supplier<ResponseEntity<?>> callback) {
+
+			Assert.notNull(callback, "Callback must not be null!");
+
+			return new AsyncMappedPayload<>(payload.thenApply(it -> it.onAbsence(callback)));
+		}
+
+		/**
+		 * Concludes the processing of the payload with the given finalizer once it's available, but automatically produces
+		 * an error response via the callbacks registered for {@link #onErrors} and {@link #onAbsence}.
+		 *
+		 * @param finalizer must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public CompletableFuture<ResponseEntity<?>> concludeIfValid(
+				Function<? super T, ? extends ResponseEntity<?>> finalizer) {
 
-			Optional<ResponseEntity<?>> byPayload = payload == null
-					? Optional.of(onAbsence.get())
-					: Optional.empty();
+			Assert.notNull(finalizer, "Finalizer must not be null!");
+
+			return concludeIfValidAsync(it -> CompletableFuture.completedFuture(finalizer.apply(it)));
+		}
+
+		/**
+		 * Concludes the processing of the payload with the given asynchronous finalizer once it's available, but
+		 * automatically produces an error response via the callbacks registered for {@link #onErrors} and
+		 * {@link #onAbsence}.
+		 *
+		 * @param finalizer must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#concludeIfValidAsync(Function)
+		 */
+		public CompletableFuture<ResponseEntity<?>> concludeIfValidAsync(
+				Function<? super T, ? extends CompletionStage<? extends ResponseEntity<?>>> finalizer) {
+
+			Assert.notNull(finalizer, "Finalizer must not be null!");
+
+			return payload.thenCompose(it -> it.concludeIfValidAsync(finalizer)).toCompletableFuture();
+		}
+
+		/**
+		 * Terminal operation that produces an empty response with {@link HttpStatus#NO_CONTENT} once the payload is
+		 * available.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public CompletableFuture<ResponseEntity<?>> concludeWithoutContent() {
+			return concludeIfValid(__ -> ResponseEntity.noContent().build());
+		}
+	}
+
+	/**
+	 * A {@link MappedPayload} variant that records the steps of a pipeline and only executes them once the pipeline is
+	 * concluded. The execution stops at the first step that leads to an error or absence response, so that no mapping or
+	 * lookup work is wasted on requests that are rejected anyway. Error and absence handlers apply independently of the
+	 * position they're registered at. Instances record steps in place and are not meant to be shared between pipelines.
+	 * As the steps might have side effects, e.g. rejecting fields, a pipeline can only be concluded once.
+	 *
+	 * @author Oliver Drotbohm
+	 * @see MappedPayload#defer()
+	 */
+	@CheckReturnValue
+	public static class DeferredMappedPayload<T> {
+
+		private final MappedPayload<?> source;
+		private final List<Function<MappedPayload<Object>, MappedPayload<Object>>> steps;
+		private @Nullable Function<Errors, ResponseEntity<?>> onErrors;
+		private @Nullable Supplier<ResponseEntity<?>> onAbsence;
+		private boolean concluded;
+
+		private DeferredMappedPayload(MappedPayload<?> source) {
+
+			this.source = source;
+			this.steps = new ArrayList<>();
+		}
+
+		/**
+		 * Produces an {@link HttpStatus#NOT_FOUND} if the given guard returns {@literal true}. Subsequent steps will not
+		 * be executed in that case.
+		 *
+		 * @param guard must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public DeferredMappedPayload<T> notFoundIf(BooleanSupplier guard) {
+
+			Assert.notNull(guard, "Guard must not be null!");
+
+			return add(it -> it.notFoundIf(guard.getAsBoolean()));
+		}
+
+		/**
+		 * Produces an {@link HttpStatus#NOT_FOUND} if the given {@link Predicate} matches the current payload. Subsequent
+		 * steps will not be executed in that case.
+		 *
+		 * @param predicate must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public DeferredMappedPayload<T> notFoundIf(Predicate<? super T> predicate) {
+
+			Assert.notNull(predicate, "Predicate must not be null!");
+
+			return add(it -> it.notFoundIf(predicate));
+		}
+
+		/**
+		 * Validates the current payload. Subsequent steps will not be executed if the validation rejects it.
+		 *
+		 * @param validator must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#validate(BiConsumer)
+		 */
+		public DeferredMappedPayload<T> validate(BiConsumer<? super T, Errors> validator) {
+
+			Assert.notNull(validator, "Validator must not be null!");
+
+			return add(it -> it.validate(validator));
+		}
+
+		/**
+		 * Validates the current payload using the given Spring {@link Validator}. Subsequent steps will not be executed if
+		 * the validation rejects it.
+		 *
+		 * @param validator must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#validate(Validator)
+		 */
+		public DeferredMappedPayload<T> validate(Validator validator) {
+
+			Assert.notNull(validator, "Validator must not be null!");
+
+			return add(it -> it.validate(validator));
+		}
+
+		/**
+		 * Rejects the field with the given name with the given error code if the given condition predicate returns true.
+		 *
+		 * @param condition must not be {@literal null}.
+		 * @param field must not be {@literal null} or empty.
+		 * @param errorCode must not be {@literal null} or empty.
+		 * @return will never be {@literal null}.
+		 */
+		public DeferredMappedPayload<T> rejectField(Predicate<T> condition, String field, String errorCode) {
+
+			Assert.notNull(condition, "Condition predicate must not be null!");
+			Assert.hasText(field, "Field name must not be null or empty!");
+			Assert.hasText(errorCode, "Error code must not be null or empty!");
+
+			return add(it -> it.rejectField(condition, field, errorCode));
+		}
+
+		/**
+		 * Peeks at the current payload.
+		 *
+		 * @param consumer must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public DeferredMappedPayload<T> peek(Consumer<? super T> consumer) {
+
+			Assert.notNull(consumer, "Consumer must not be null!");
+
+			return add(it -> it.peek(consumer));
+		}
+
+		/**
+		 * Applies the given {@link Function} to the current payload. A {@literal null} result produces an
+		 * {@link HttpStatus#NOT_FOUND}.
+		 *
+		 * @param <S>
+		 * @param mapper must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public <S> DeferredMappedPayload<S> map(Function<? super T, S> mapper) {
+
+			Assert.notNull(mapper, "Mapper must not be null!");
+
+			return add(it -> it.map(mapper));
+		}
+
+		/**
+		 * Applies the given {@link BiFunction} to the current payload and {@link Errors}. A {@literal null} result
+		 * produces an {@link HttpStatus#NOT_FOUND}.
+		 *
+		 * @param <S>
+		 * @param mapper must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public <S> DeferredMappedPayload<S> map(BiFunction<? super T, Errors, S> mapper) {
+
+			Assert.notNull(mapper, "Mapper must not be null!");
+
+			return add(it -> it.map(mapper));
+		}
+
+		/**
+		 * Applies the given {@link Function} to the current payload. An empty result produces an
+		 * {@link HttpStatus#NOT_FOUND}.
+		 *
+		 * @param <S>
+		 * @param mapper must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public <S> DeferredMappedPayload<S> flatMap(Function<? super T, Optional<S>> mapper) {
+
+			Assert.notNull(mapper, "Mapper must not be null!");
+
+			return add(it -> it.flatMap(mapper));
+		}
+
+		/**
+		 * Registers a {@link Function} to turn the accumulated {@link Errors} into a response.
+		 *
+		 * @param callback must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#onErrors(Function)
+		 */
+		public DeferredMappedPayload<T> onErrors(Function<Errors, ResponseEntity<?>> callback) {
+
+			Assert.notNull(callback, "Callback must not be null!");
+
+			this.onErrors = callback;
+
+			return this;
+		}
+
+		/**
+		 * Registers a {@link Supplier} for the response to produce if errors have been accumulated.
+		 *
+		 * @param callback must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#onErrors(Supplier)
+		 */
+		public DeferredMappedPayload<T> onErrors(Supplier<ResponseEntity<?>> callback) {
+
+			Assert.notNull(callback, "Callback must not be null!");
+
+			return onErrors(__ -> callback.get());
+		}
+
+		/**
+		 * Registers a {@link Supplier} for the response to produce if the pipeline yields the absence of a payload.
+		 *
+		 * @param callback must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see MappedPayload#onAbsence(Supplier)
+		 */
+		public DeferredMappedPayload<T> onAbsence(Supplier<ResponseEntity<?>> callback) {
+
+			Assert.notNull(callback, "Callback must not be null!");
+
+			this.onAbsence = callback;
+
+			return this;
+		}
+
+		/**
+		 * Executes the recorded steps and concludes the processing of the resulting payload with the given finalizer, but
+		 * automatically produces an error response via the callbacks registered for {@link #onErrors} and
+		 * {@link #onAbsence}.
+		 *
+		 * @param finalizer must not be {@literal null}.
+		 * @return
+		 */
+		public <S, R extends ResponseEntity<? extends S>> R concludeIfValid(Function<? super T, R> finalizer) {
+
+			Assert.notNull(finalizer, "Finalizer must not be null!");
+
+			return this.<T> execute().concludeIfValid(finalizer);
+		}
+
+		/**
+		 * Executes the recorded steps and concludes the processing of the resulting payload with the given finalizer, but
+		 * automatically produces an error response via the callbacks registered for {@link #onErrors} and
+		 * {@link #onAbsence}.
+		 *
+		 * @param finalizer must not be {@literal null}.
+		 * @return
+		 */
+		public HttpEntity<?> concludeIfValid(BiFunction<? super T, Errors, ? extends ResponseEntity<?>> finalizer) {
+
+			Assert.notNull(finalizer, "Finalizer must not be null!");
+
+			return this.<T> execute().concludeIfValid(finalizer);
+		}
+
+		/**
+		 * Terminal operation that executes the recorded steps and produces an empty response with
+		 * {@link HttpStatus#NO_CONTENT}.
+		 *
+		 * @return
+		 */
+		public HttpEntity<?> concludeWithoutContent() {
+			return execute().concludeWithoutContent();
+		}
+
+		@SuppressWarnings("unchecked")
+		private <S> DeferredMappedPayload<S> add(Function<MappedPayload<T>, MappedPayload<S>> step) {
+
+			Assert.state(!concluded, "Cannot add steps to a pipeline that has already been concluded!");
+
+			steps.add((Function<MappedPayload<Object>, MappedPayload<Object>>) (Function<?, ?>) step);
+
+			return (DeferredMappedPayload<S>) this;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <S> MappedPayload<S> execute() {
+
+			Assert.state(!concluded, "Pipeline has already been concluded!");
+
+			this.concluded = true;
+
+			MappedPayload<Object> current = (MappedPayload<Object>) source;
+
+			for (Function<MappedPayload<Object>, MappedPayload<Object>> step : steps) {
+
+				if (!current.isValid()) {
+					break;
+				}
+
+				current = step.apply(current);
+			}
+
+			if (onErrors != null) {
+				current = current.onErrors(onErrors);
+			}
+
+			if (onAbsence != null) {
+				current = current.onAbsence(onAbsence);
+			}
 
-			return byPayload.isPresent() ? byPayload : super.errorsOrNone();
+			return (MappedPayload<S>) current;
 		}
 	}
 }
@@ -17,15 +17,22 @@ package de.odrotbohm.spring.web.mvc;
 
 import de.odrotbohm.spring.web.model.MappedPayloads;
 import de.odrotbohm.spring.web.model.MappedPayloads.MappedPayload;
-import lombok.RequiredArgsConstructor;
+import lombok.Value;
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -40,18 +47,49 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBody
  * {@link HandlerMethodArgumentResolver} for {@link MappedPayload} parameters in Spring MVC controllers. Delegates to
  * both the {@link RequestResponseBodyMethodProcessor} and {@link ErrorsMethodArgumentResolver} discovered from the
  * {@link RequestMappingHandlerAdapter} registered in the application for actual parameter binding and validation to
- * eventually create {@link MappedPayload} instance of the results.
+ * eventually create {@link MappedPayload} instance of the results. The delegates are looked up once all singletons have
+ * been instantiated, so that a missing one fails the application startup, or on first use if the resolver is not
+ * initialized by the container. The nested {@link MethodParameter}s handed to them are cached per handler method
+ * parameter.
  *
  * @author Oliver Drotbohm
  */
-@RequiredArgsConstructor
-public class MappedPayloadHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
+public class MappedPayloadHandlerMethodArgumentResolver
+		implements HandlerMethodArgumentResolver, SmartInitializingSingleton {
 
-	private final Supplier<RequestMappingHandlerAdapter> adapter;
 	private final MappedPayloadProperties configuration;
+	private final Supplier<Delegates> delegates;
+	private final Map<MethodParameter, MethodParameter> parameters;
 
-	private RequestResponseBodyMethodProcessor requestBodyResolver;
-	private ErrorsMethodArgumentResolver errorsResolver;
+	/**
+	 * Creates a new {@link MappedPayloadHandlerMethodArgumentResolver} for the given
+	 * {@link RequestMappingHandlerAdapter} and {@link MappedPayloadProperties}.
+	 *
+	 * @param adapter must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public MappedPayloadHandlerMethodArgumentResolver(Supplier<RequestMappingHandlerAdapter> adapter,
+			MappedPayloadProperties configuration) {
+
+		Assert.notNull(adapter, "RequestMappingHandlerAdapter must not be null!");
+		Assert.notNull(configuration, "MappedPayloadProperties must not be null!");
+
+		this.configuration = configuration;
+		this.delegates = SingletonSupplier.of(() -> Delegates.of(adapter.get()));
+		this.parameters = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Eagerly looks up the delegates from the {@link RequestMappingHandlerAdapter}, which has been fully initialized at
+	 * this point.
+	 *
+	 * @throws IllegalArgumentException in case any of the delegates cannot be found.
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		delegates.get();
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -70,42 +108,48 @@ public class MappedPayloadHandlerMethodArgumentResolver implements HandlerMethod
 	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
 			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
 
-		MethodParameter nested = configuration.isAlwaysValidate()
-				? new AlwaysValidatingMethodParameter(parameter.nested())
-				: parameter.nested();
+		MethodParameter nested = parameters.computeIfAbsent(parameter, it -> configuration.isAlwaysValidate()
+				? new AlwaysValidatingMethodParameter(it.nested())
+				: it.nested());
 
-		Object argument = getRequestBodyProcessor().resolveArgument(nested, mavContainer, webRequest, binderFactory);
-		Errors errors = (Errors) getErrorsResolver().resolveArgument(nested, mavContainer, webRequest, binderFactory);
+		Delegates delegates = this.delegates.get();
+
+		Object argument = delegates.getRequestBody().resolveArgument(nested, mavContainer, webRequest, binderFactory);
+		Errors errors = (Errors) delegates.getErrors().resolveArgument(nested, mavContainer, webRequest, binderFactory);
 
 		return MappedPayloads.of(argument, errors);
 	}
 
-	private RequestResponseBodyMethodProcessor getRequestBodyProcessor() {
+	/**
+	 * The {@link HandlerMethodArgumentResolver}s of the {@link RequestMappingHandlerAdapter} to delegate to.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	private static class Delegates {
 
-		if (requestBodyResolver == null) {
-			this.requestBodyResolver = getArgumentResolver(RequestResponseBodyMethodProcessor.class);
-		}
+		RequestResponseBodyMethodProcessor requestBody;
+		ErrorsMethodArgumentResolver errors;
 
-		return this.requestBodyResolver;
-	}
+		static Delegates of(RequestMappingHandlerAdapter adapter) {
 
-	private ErrorsMethodArgumentResolver getErrorsResolver() {
+			List<HandlerMethodArgumentResolver> resolvers = adapter.getArgumentResolvers();
 
-		if (errorsResolver == null) {
-			this.errorsResolver = getArgumentResolver(ErrorsMethodArgumentResolver.class);
-		}
+			Assert.state(resolvers != null, "RequestMappingHandlerAdapter not initialized yet!");
 
-		return this.errorsResolver;
-	}
+			return new Delegates(getArgumentResolver(resolvers, RequestResponseBodyMethodProcessor.class),
+					getArgumentResolver(resolvers, ErrorsMethodArgumentResolver.class));
+		}
 
-	private <T> T getArgumentResolver(Class<T> type) {
+		private static <T> T getArgumentResolver(List<HandlerMethodArgumentResolver> resolvers, Class<T> type) {
 
-		return adapter.get().getArgumentResolvers().stream()
-				.filter(type::isInstance)
-				.findFirst()
-				.map(type::cast)
-				.orElseThrow(
-						() -> new IllegalArgumentException(String.format("Could not find resolver of type ", type.getName())));
+			return resolvers.stream()
+					.filter(type::isInstance)
+					.findFirst()
+					.map(type::cast)
+					.orElseThrow(() -> new IllegalArgumentException(
+							String.format("Could not find resolver of type %s!", type.getName())));
+		}
 	}
 
 	/**
@@ -118,7 +162,14 @@ public class MappedPayloadHandlerMethodArgumentResolver implements HandlerMethod
 
 		private static final Annotation VALIDATED_ANNOTATION = AnnotationUtils.synthesizeAnnotation(Validated.class);
 
-		public AlwaysValidatingMethodParameter(MethodParameter delegate) {
+		private volatile Annotation @Nullable [] annotations;
+
+		/**
+		 * Creates a new {@link AlwaysValidatingMethodParameter} for the given {@link MethodParameter}.
+		 *
+		 * @param delegate must not be {@literal null}.
+		 */
+		AlwaysValidatingMethodParameter(MethodParameter delegate) {
 			super(delegate);
 		}
 
@@ -129,13 +180,22 @@ public class MappedPayloadHandlerMethodArgumentResolver implements HandlerMethod
 		@Override
 		public Annotation[] getParameterAnnotations() {
 
-			Annotation[] annotations = super.getParameterAnnotations();
+			Annotation[] result = this.annotations;
+
+			if (result == null) {
+
+				Annotation[] annotations = super.getParameterAnnotations();
+
+				result = Arrays.stream(annotations)
+						.map(Annotation::annotationType)
+						.anyMatch(it -> it.getSimpleName().startsWith("Valid"))
+								? annotations
+								: ObjectUtils.addObjectToArray(annotations, VALIDATED_ANNOTATION);
+
+				this.annotations = result;
+			}
 
-			return Arrays.stream(annotations)
-					.map(Annotation::annotationType)
-					.anyMatch(it -> it.getSimpleName().startsWith("Valid"))
-							? annotations
-							: ObjectUtils.addObjectToArray(annotations, VALIDATED_ANNOTATION);
+			return result;
 		}
 	}
 }
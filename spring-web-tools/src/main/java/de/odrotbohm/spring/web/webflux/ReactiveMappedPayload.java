@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.odrotbohm.spring.web.webflux;
+
+import de.odrotbohm.spring.web.model.MappedPayloads.MappedPayload;
+import reactor.core.publisher.Mono;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.CheckReturnValue;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * A {@link MappedPayload} obtained reactively, e.g. from a request body decoded in a Spring WebFlux application.
+ * Allows to build up the same pipelines as {@link MappedPayload} without blocking and eventually conclude them into
+ * a {@link Mono} of the response.
+ *
+ * @author Oliver Drotbohm
+ * @see ReactiveMappedPayloadHandlerMethodArgumentResolver
+ */
+@CheckReturnValue
+public class ReactiveMappedPayload<T> {
+
+	private final Mono<MappedPayload<T>> payload;
+
+	private ReactiveMappedPayload(Mono<MappedPayload<T>> payload) {
+		this.payload = payload;
+	}
+
+	/**
+	 * Creates a new {@link ReactiveMappedPayload} for the given {@link Mono} of a {@link MappedPayload}.
+	 *
+	 * @param <T>
+	 * @param payload must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> ReactiveMappedPayload<T> of(Mono<MappedPayload<T>> payload) {
+
+		Assert.notNull(payload, "Payload must not be null!");
+
+		return new ReactiveMappedPayload<>(payload);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveMappedPayload} for the given {@link MappedPayload}.
+	 *
+	 * @param <T>
+	 * @param payload must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> ReactiveMappedPayload<T> of(MappedPayload<T> payload) {
+
+		Assert.notNull(payload, "Payload must not be null!");
+
+		return new ReactiveMappedPayload<>(Mono.just(payload));
+	}
+
+	/**
+	 * Produces an {@link HttpStatus#NOT_FOUND} if the given {@link Predicate} matches the payload.
+	 *
+	 * @param predicate must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#notFoundIf(Predicate)
+	 */
+	public ReactiveMappedPayload<T> notFoundIf(Predicate<? super T> predicate) {
+
+		Assert.notNull(predicate, "Predicate must not be null!");
+
+		return new ReactiveMappedPayload<>(payload.map(it -> it.notFoundIf(predicate)));
+	}
+
+	/**
+	 * Validates the payload.
+	 *
+	 * @param validator must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#validate(BiConsumer)
+	 */
+	public ReactiveMappedPayload<T> validate(BiConsumer<? super T, Errors> validator) {
+
+		Assert.notNull(validator, "Validator must not be null!");
+
+		return new ReactiveMappedPayload<>(payload.map(it -> it.validate(validator)));
+	}
+
+	/**
+	 * Validates the payload using the given Spring {@link Validator}.
+	 *
+	 * @param validator must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#validate(Validator)
+	 */
+	public ReactiveMappedPayload<T> validate(Validator validator) {
+
+		Assert.notNull(validator, "Validator must not be null!");
+
+		return new ReactiveMappedPayload<>(payload.map(it -> it.validate(validator)));
+	}
+
+	/**
+	 * Rejects the field with the given name with the given error code if the given condition predicate returns true.
+	 *
+	 * @param condition must not be {@literal null}.
+	 * @param field must not be {@literal null} or empty.
+	 * @param errorCode must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#rejectField(Predicate, String, String)
+	 */
+	public ReactiveMappedPayload<T> rejectField(Predicate<T> condition, String field, String errorCode) {
+
+		Assert.notNull(condition, "Condition predicate must not be null!");
+		Assert.hasText(field, "Field name must not be null or empty!");
+		Assert.hasText(errorCode, "Error code must not be null or empty!");
+
+		return new ReactiveMappedPayload<>(payload.map(it -> it.rejectField(condition, field, errorCode)));
+	}
+
+	/**
+	 * Applies the given {@link Function} if no errors have been accumulated or we're on a path to a
+	 * {@link HttpStatus#NOT_FOUND} yet.
+	 *
+	 * @param <S>
+	 * @param mapper must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#mapIfValid(Function)
+	 */
+	public <S> ReactiveMappedPayload<S> mapIfValid(Function<? super T, S> mapper) {
+
+		Assert.notNull(mapper, "Mapper must not be null!");
+
+		return new ReactiveMappedPayload<>(payload.map(it -> it.mapIfValid(mapper)));
+	}
+
+	/**
+	 * Applies the given reactive {@link Function} if no errors have been accumulated or we're on a path to a
+	 * {@link HttpStatus#NOT_FOUND} yet. An empty result produces an {@link HttpStatus#NOT_FOUND}.
+	 *
+	 * @param <S>
+	 * @param mapper must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#mapAsync(Function)
+	 */
+	@SuppressWarnings("unchecked")
+	public <S> ReactiveMappedPayload<S> mapAsync(Function<? super T, ? extends Mono<S>> mapper) {
+
+		Assert.notNull(mapper, "Mapper must not be null!");
+
+		return new ReactiveMappedPayload<>(payload.flatMap(it -> it.foldIfValid(
+				value -> mapper.apply(value)
+						.map(result -> it.<S> map(__ -> result))
+						.switchIfEmpty(Mono.fromSupplier(() -> it.<S> map(__ -> null))),
+				invalid -> Mono.just((MappedPayload<S>) (MappedPayload<?>) invalid))));
+	}
+
+	/**
+	 * Registers a {@link Function} to turn the accumulated {@link Errors} into a response.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#onErrors(Function)
+	 */
+	public ReactiveMappedPayload<T> onErrors(Function<Errors, ResponseEntity<?>> callback) {
+
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return new ReactiveMappedPayload<>(payload.map(it -> it.onErrors(callback)));
+	}
+
+	/**
+	 * Registers a {@link Supplier} for the response to produce if errors have been accumulated.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#onErrors(Supplier)
+	 */
+	public ReactiveMappedPayload<T> onErrors(Supplier<ResponseEntity<?>> callback) {
+
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return onErrors(__ -> callback.get());
+	}
+
+	/**
+	 * Registers a {@link Supplier} for the response to produce if the pipeline yields the absence of a payload.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see MappedPayload#onAbsence(Supplier)
+	 */
+	public ReactiveMappedPayload<T> onAbsence(Supplier<ResponseEntity<?>> callback) {
+
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return new ReactiveMappedPayload<>(payload.map(it -> it.onAbsence(callback)));
+	}
+
+	/**
+	 * Concludes the processing of the payload with the given finalizer, but automatically produces an error response
+	 * via the callbacks registered for {@link #onErrors} and {@link #onAbsence}.
+	 *
+	 * @param finalizer must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Mono<ResponseEntity<?>> concludeIfValid(Function<? super T, ? extends ResponseEntity<?>> finalizer) {
+
+		Assert.notNull(finalizer, "Finalizer must not be null!");
+
+		return concludeIfValidAsync(it -> Mono.just(finalizer.apply(it)));
+	}
+
+	/**
+	 * Concludes the processing of the payload with the given reactive finalizer, but automatically produces an error
+	 * response via the callbacks registered for {@link #onErrors} and {@link #onAbsence}.
+	 *
+	 * @param finalizer must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Mono<ResponseEntity<?>> concludeIfValidAsync(
+			Function<? super T, ? extends Mono<? extends ResponseEntity<?>>> finalizer) {
+
+		Assert.notNull(finalizer, "Finalizer must not be null!");
+
+		// Concluding an invalid payload produces the error response without invoking the finalizer
+		return payload.flatMap(it -> it.<Mono<? extends ResponseEntity<?>>> foldIfValid(finalizer::apply,
+				invalid -> Mono.just((ResponseEntity<?>) invalid.concludeWithoutContent())));
+	}
+
+	/**
+	 * Terminal operation that produces an empty response with {@link HttpStatus#NO_CONTENT}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Mono<ResponseEntity<?>> concludeWithoutContent() {
+		return concludeIfValid(__ -> ResponseEntity.noContent().build());
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.odrotbohm.spring.web.webflux;
+
+import de.odrotbohm.spring.web.model.MappedPayloads;
+import de.odrotbohm.spring.web.model.MappedPayloads.MappedPayload;
+import de.odrotbohm.spring.web.mvc.MappedPayloadProperties;
+import reactor.core.publisher.Mono;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.AbstractMessageReaderArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * {@link HandlerMethodArgumentResolver} for {@link MappedPayload} and {@link ReactiveMappedPayload} parameters in
+ * Spring WebFlux controllers. Decodes the request body using the configured {@link HttpMessageReader}s and validates
+ * it using the validator configured for the {@link BindingContext}. Validation errors are not signalled as
+ * {@link WebExchangeBindException} but exposed through the {@link org.springframework.validation.Errors} of the
+ * {@link MappedPayload} so that the pipeline can produce the response for them.
+ *
+ * @author Oliver Drotbohm
+ */
+public class ReactiveMappedPayloadHandlerMethodArgumentResolver extends AbstractMessageReaderArgumentResolver {
+
+	private final MappedPayloadProperties configuration;
+	private final Map<MethodParameter, MethodParameter> parameters;
+
+	/**
+	 * Creates a new {@link ReactiveMappedPayloadHandlerMethodArgumentResolver} for the given {@link HttpMessageReader}s,
+	 * {@link ReactiveAdapterRegistry} and {@link MappedPayloadProperties}.
+	 *
+	 * @param readers must not be {@literal null}.
+	 * @param registry must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public ReactiveMappedPayloadHandlerMethodArgumentResolver(List<HttpMessageReader<?>> readers,
+			ReactiveAdapterRegistry registry, MappedPayloadProperties configuration) {
+
+		super(readers, registry);
+
+		Assert.notNull(configuration, "MappedPayloadProperties must not be null!");
+
+		this.configuration = configuration;
+		this.parameters = new ConcurrentHashMap<>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver#supportsParameter(org.springframework.core.MethodParameter)
+	 */
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+
+		Class<?> type = parameter.getParameterType();
+
+		return MappedPayload.class.isAssignableFrom(type) || ReactiveMappedPayload.class.isAssignableFrom(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver#resolveArgument(org.springframework.core.MethodParameter, org.springframework.web.reactive.BindingContext, org.springframework.web.server.ServerWebExchange)
+	 */
+	@Override
+	public Mono<Object> resolveArgument(MethodParameter parameter, BindingContext bindingContext,
+			ServerWebExchange exchange) {
+
+		MethodParameter nested = parameters.computeIfAbsent(parameter, it -> configuration.isAlwaysValidate()
+				? new AlwaysValidatingMethodParameter(it.nested())
+				: it.nested());
+
+		Mono<MappedPayload<Object>> payload = readBody(nested, parameter, true, bindingContext, exchange)
+				.map(it -> {
+
+					String name = Conventions.getVariableNameForParameter(nested);
+					var errors = bindingContext.createDataBinder(exchange, it, name).getBindingResult();
+
+					return MappedPayloads.of(it, errors);
+				})
+				.onErrorResume(WebExchangeBindException.class,
+						it -> Mono.just(MappedPayloads.of(it.getTarget(), it.getBindingResult())));
+
+		return ReactiveMappedPayload.class.isAssignableFrom(parameter.getParameterType())
+				? Mono.just(ReactiveMappedPayload.of(payload))
+				: payload.cast(Object.class);
+	}
+
+	/**
+	 * Custom {@link MethodParameter} that implicitly adds an {@link Validated} annotation to the list of annotations
+	 * returned for the parameter unless, there's already one declared.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class AlwaysValidatingMethodParameter extends MethodParameter {
+
+		private static final Annotation VALIDATED_ANNOTATION = AnnotationUtils.synthesizeAnnotation(Validated.class);
+
+		private volatile Annotation @Nullable [] annotations;
+
+		/**
+		 * Creates a new {@link AlwaysValidatingMethodParameter} for the given {@link MethodParameter}.
+		 *
+		 * @param delegate must not be {@literal null}.
+		 */
+		AlwaysValidatingMethodParameter(MethodParameter delegate) {
+			super(delegate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.MethodParameter#getParameterAnnotations()
+		 */
+		@Override
+		public Annotation[] getParameterAnnotations() {
+
+			Annotation[] result = this.annotations;
+
+			if (result == null) {
+
+				Annotation[] annotations = super.getParameterAnnotations();
+
+				result = Arrays.stream(annotations)
+						.map(Annotation::annotationType)
+						.anyMatch(it -> it.getSimpleName().startsWith("Valid"))
+								? annotations
+								: ObjectUtils.addObjectToArray(annotations, VALIDATED_ANNOTATION);
+
+				this.annotations = result;
+			}
+
+			return result;
+		}
+	}
+}
@@ -0,0 +1,2 @@
+@org.jspecify.annotations.NullMarked
+package de.odrotbohm.spring.web.webflux;
@@ -24,7 +24,10 @@ import de.odrotbohm.spring.web.model.MappedPayloads.MappedPayload;
 import lombok.Data;
 import lombok.Value;
 
+import java.util.HashMap;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -39,9 +42,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
 
@@ -350,6 +355,218 @@ class MappedPayloadsUnitTests {
 		});
 	}
 
+	@Test
+	void keepsProblemDetailsAcrossPipelineSteps() {
+
+		var result = createPayload(new Payload())
+				.reject(it -> it.put("someField", "someMessage"));
+
+		assertThat(result).isInstanceOfSatisfying(MappedPayload.class, it -> {
+
+			var response = it.map(Object::toString)
+					.onAbsence(() -> ResponseEntity.notFound().build())
+					.toBadRequest();
+
+			assertThat(response.getBody()).isInstanceOfSatisfying(ProblemDetail.class, details -> {
+				assertThat(details.getProperties()).containsEntry("someField", "someMessage");
+			});
+		});
+	}
+
+	@Test
+	void sharesProblemDetailsWithStepsDerivedBeforeRejection() {
+
+		MappedPayload<Payload> root = createPayload(new Payload());
+		MappedPayload<String> derived = root.map(Object::toString);
+
+		root.reject(it -> it.put("someField", "someMessage"));
+
+		assertThat(derived.toBadRequest().getBody()).isInstanceOfSatisfying(ProblemDetail.class, it -> {
+			assertThat(it.getProperties()).containsEntry("someField", "someMessage");
+		});
+	}
+
+	@Test
+	void allocatesProblemDetailsOnRejectionOnly() {
+
+		MappedPayload<Payload> root = createPayload(new Payload());
+		MappedPayload<String> derived = root.map(Object::toString);
+
+		Object details = ReflectionTestUtils.getField(derived, MappedErrors.class, "details");
+
+		assertThat(ReflectionTestUtils.getField(details, "properties")).isNull();
+		assertThat(root.toBadRequest().getBody()).isInstanceOfSatisfying(ProblemDetail.class,
+				it -> assertThat(it.getProperties()).isNullOrEmpty());
+
+		derived.reject(it -> it.put("someField", "someMessage"));
+
+		assertThat(ReflectionTestUtils.getField(details, "properties")).isNotNull();
+		assertThat(root.toBadRequest().getBody()).isInstanceOfSatisfying(ProblemDetail.class,
+				it -> assertThat(it.getProperties()).containsEntry("someField", "someMessage"));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void exposesErrorResponseToSubclassesAsOptional() {
+
+		var errors = new BeanPropertyBindingResult(new Payload(), "payload");
+		var mappedErrors = new MappedErrors(errors, new HashMap<>(), MappedPayloads::toBadRequest, (__, ___) -> {}) {};
+
+		assertThat(mappedErrors.errorsOrNone()).isEmpty();
+
+		errors.reject("someError");
+
+		assertThat(mappedErrors.errorsOrNone()).hasValueSatisfying(it -> {
+			assertThat(it.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deferredPipelineExecutesStepsOnConclusionOnly() {
+
+		Function<Payload, Payload> mapper = mock(Function.class);
+		when(mapper.apply(any())).then(it -> it.getArgument(0));
+
+		var pipeline = MappedPayloads.deferred(new Payload(), new BeanPropertyBindingResult(new Payload(), "payload"))
+				.map(mapper)
+				.map(mapper);
+
+		verify(mapper, never()).apply(any());
+
+		assertThat(pipeline.concludeWithoutContent())
+				.isInstanceOfSatisfying(ResponseEntity.class, it -> {
+					assertThat(it.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+				});
+
+		verify(mapper, times(2)).apply(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void rejectsConcludingDeferredPipelineTwice() {
+
+		Function<Payload, Payload> mapper = mock(Function.class);
+		when(mapper.apply(any())).then(it -> it.getArgument(0));
+
+		var pipeline = MappedPayloads.deferred(new Payload(), new BeanPropertyBindingResult(new Payload(), "payload"))
+				.map(mapper);
+
+		assertThat(pipeline.concludeWithoutContent()).isNotNull();
+
+		assertThatIllegalStateException().isThrownBy(pipeline::concludeWithoutContent);
+		assertThatIllegalStateException().isThrownBy(() -> pipeline.map(mapper));
+
+		verify(mapper, times(1)).apply(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deferredPipelineSkipsStepsFollowingRejection() {
+
+		Function<Payload, Payload> mapper = mock(Function.class);
+		Supplier<ResponseEntity<?>> errorHandler = mock(Supplier.class);
+		when(errorHandler.get()).thenReturn(ResponseEntity.status(HttpStatus.I_AM_A_TEAPOT).build());
+
+		var response = MappedPayloads.deferred(new Payload(), new BeanPropertyBindingResult(new Payload(), "payload"))
+				.rejectField(__ -> true, "someField", "error.code")
+				.map(mapper)
+				.onErrors(errorHandler)
+				.concludeWithoutContent();
+
+		verify(mapper, never()).apply(any());
+		verify(errorHandler).get();
+		assertThat(response).isInstanceOfSatisfying(ResponseEntity.class, it -> {
+			assertThat(it.getStatusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
+		});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deferredPipelineSkipsStepsFollowingAbsence() {
+
+		Function<Payload, Payload> mapper = mock(Function.class);
+
+		var response = MappedPayloads.deferred(new Payload(), new BeanPropertyBindingResult(new Payload(), "payload"))
+				.notFoundIf(() -> true)
+				.map(mapper)
+				.concludeIfValid(ResponseEntity::ok);
+
+		verify(mapper, never()).apply(any());
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+	}
+
+	@Test
+	void concludesAsynchronouslyIfValid() {
+
+		var response = createPayload(new Payload())
+				.mapAsync(it -> CompletableFuture.supplyAsync(() -> it.getSomeField() == null ? "none" : "some"))
+				.mapIfValid(String::toUpperCase)
+				.concludeIfValid(ResponseEntity::ok);
+
+		assertThat(response.join().getBody()).isEqualTo("NONE");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void skipsAsynchronousStepsOnErrors() {
+
+		Function<Payload, CompletionStage<Payload>> mapper = mock(Function.class);
+
+		var response = createPayload(new Payload())
+				.rejectField("someField", "error.code")
+				.mapAsync(mapper)
+				.onErrors(() -> ResponseEntity.status(HttpStatus.I_AM_A_TEAPOT).build())
+				.concludeWithoutContent();
+
+		verify(mapper, never()).apply(any());
+		assertThat(response.join().getStatusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
+	}
+
+	@Test
+	void producesNotFoundForEmptyAsynchronousResult() {
+
+		var response = createPayload(new Payload())
+				.<Payload> flatMapAsync(__ -> CompletableFuture.completedFuture(Optional.empty()))
+				.concludeWithoutContent();
+
+		assertThat(response.join().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+	}
+
+	@Test
+	void foldsValidPayloadWithFunction() {
+
+		var result = createPayload(new Payload())
+				.foldIfValid(it -> "valid", __ -> "invalid");
+
+		assertThat(result).isEqualTo("valid");
+	}
+
+	@Test
+	void foldsInvalidPayloadWithFallback() {
+
+		var payload = createPayload(new Payload()).rejectField("someField", "error.code");
+
+		MappedPayload<?> continued = payload.foldIfValid(__ -> null, Function.identity());
+		HttpEntity<?> concluded = payload.<HttpEntity<?>> foldIfValid(__ -> null, MappedPayload::concludeWithoutContent);
+
+		assertThat(continued).isSameAs(payload);
+		assertThat(concluded).isInstanceOfSatisfying(ResponseEntity.class, it -> {
+			assertThat(it.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		});
+	}
+
+	@Test
+	void foldsAbsentPayloadWithFallback() {
+
+		HttpEntity<?> result = createPayload(null)
+				.<HttpEntity<?>> foldIfValid(__ -> null, MappedPayload::concludeWithoutContent);
+
+		assertThat(result).isInstanceOfSatisfying(ResponseEntity.class, it -> {
+			assertThat(it.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+		});
+	}
+
 	@Value(staticConstructor = "of")
 	static class Rejection {
 
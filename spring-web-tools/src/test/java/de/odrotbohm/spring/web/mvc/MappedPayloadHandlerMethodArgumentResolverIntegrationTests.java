@@ -27,6 +27,8 @@ import de.odrotbohm.spring.web.validation.YaviValidator;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
@@ -76,6 +78,21 @@ class MappedPayloadHandlerMethodArgumentResolverIntegrationTests {
 				.andExpect(jsonPath("$.lastname").exists());
 	}
 
+	@Test
+	void bindsAndReturnsSerializedObjectAsynchronously() throws Exception {
+
+		var result = mvc.perform(post("/async")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{ \"firstname\" : \"Dave\", \"lastname\" : \"Matthews\"}"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.lastname").value("Matthews"));
+	}
+
 	@SpringBootApplication
 	@Import(SampleController.class)
 	static class App {
@@ -109,6 +126,15 @@ class MappedPayloadHandlerMethodArgumentResolverIntegrationTests {
 					.validate(validator)
 					.concludeIfValid(ResponseEntity::ok);
 		}
+
+		@PostMapping("/async")
+		CompletableFuture<ResponseEntity<?>> somethingAsync(MappedPayload<SampleDto> payload) {
+
+			return payload
+					.validate(validator)
+					.mapAsync(it -> CompletableFuture.supplyAsync(() -> it))
+					.concludeIfValid(ResponseEntity::ok);
+		}
 	}
 
 	@Data
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.odrotbohm.spring.web.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import de.odrotbohm.spring.web.model.MappedPayloads.MappedPayload;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.method.annotation.ErrorsMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+/**
+ * Unit tests for {@link MappedPayloadHandlerMethodArgumentResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+@ExtendWith(MockitoExtension.class)
+class MappedPayloadHandlerMethodArgumentResolverUnitTests {
+
+	@Mock RequestMappingHandlerAdapter adapter;
+	@Mock RequestResponseBodyMethodProcessor requestBody;
+	@Mock ErrorsMethodArgumentResolver errors;
+
+	@Test
+	void reusesNestedParameterForRepeatedResolutions() throws Exception {
+
+		when(adapter.getArgumentResolvers()).thenReturn(List.of(requestBody, errors));
+		when(requestBody.resolveArgument(any(), any(), any(), any())).thenReturn(new Object());
+		when(errors.resolveArgument(any(), any(), any(), any())).thenReturn(mock(Errors.class));
+
+		var resolver = new MappedPayloadHandlerMethodArgumentResolver(() -> adapter, new MappedPayloadProperties());
+		var parameter = getParameter();
+
+		resolver.resolveArgument(parameter, null, null, null);
+		resolver.resolveArgument(parameter, null, null, null);
+
+		ArgumentCaptor<MethodParameter> captor = ArgumentCaptor.forClass(MethodParameter.class);
+		verify(requestBody, times(2)).resolveArgument(captor.capture(), any(), any(), any());
+
+		assertThat(captor.getAllValues()).hasSize(2).allSatisfy(it -> {
+			assertThat(it).isSameAs(captor.getValue());
+		});
+
+		// Annotations computed once including the implicit @Validated
+		var nested = captor.getValue();
+
+		assertThat(nested.getParameterAnnotations()).isSameAs(nested.getParameterAnnotations());
+		assertThat(nested.hasParameterAnnotation(Validated.class)).isTrue();
+
+		// Delegates only looked up once
+		verify(adapter, times(1)).getArgumentResolvers();
+	}
+
+	@Test
+	void rejectsMissingDelegate() {
+
+		when(adapter.getArgumentResolvers()).thenReturn(List.of(errors));
+
+		var resolver = new MappedPayloadHandlerMethodArgumentResolver(() -> adapter, new MappedPayloadProperties());
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> resolver.afterSingletonsInstantiated())
+				.withMessage("Could not find resolver of type %s!", RequestResponseBodyMethodProcessor.class.getName());
+	}
+
+	@Test
+	void looksUpDelegatesEagerlyOnceSingletonsAreInstantiated() throws Exception {
+
+		when(adapter.getArgumentResolvers()).thenReturn(List.of(requestBody, errors));
+		when(requestBody.resolveArgument(any(), any(), any(), any())).thenReturn(new Object());
+		when(errors.resolveArgument(any(), any(), any(), any())).thenReturn(mock(Errors.class));
+
+		var resolver = new MappedPayloadHandlerMethodArgumentResolver(() -> adapter, new MappedPayloadProperties());
+
+		verify(adapter, never()).getArgumentResolvers();
+
+		resolver.afterSingletonsInstantiated();
+
+		verify(adapter, times(1)).getArgumentResolvers();
+
+		resolver.resolveArgument(getParameter(), null, null, null);
+
+		verify(adapter, times(1)).getArgumentResolvers();
+	}
+
+	private static MethodParameter getParameter() throws Exception {
+		return new MethodParameter(Sample.class.getDeclaredMethod("handle", MappedPayload.class), 0);
+	}
+
+	interface Sample {
+		void handle(MappedPayload<Object> payload);
+	}
+}
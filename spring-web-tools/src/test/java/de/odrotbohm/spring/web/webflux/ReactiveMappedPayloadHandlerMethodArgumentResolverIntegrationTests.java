@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.odrotbohm.spring.web.webflux;
+
+import de.odrotbohm.spring.web.jackson.ErrorsModule;
+import de.odrotbohm.spring.web.model.MappedPayloads.MappedPayload;
+import de.odrotbohm.spring.web.mvc.MappedPayloadProperties;
+import lombok.Data;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Integration tests for {@link ReactiveMappedPayloadHandlerMethodArgumentResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ReactiveMappedPayloadHandlerMethodArgumentResolverIntegrationTests {
+
+	WebTestClient client = WebTestClient.bindToController(new SampleController())
+			.argumentResolvers(it -> it.addCustomResolver(new ReactiveMappedPayloadHandlerMethodArgumentResolver(
+					ServerCodecConfigurer.create().getReaders(), ReactiveAdapterRegistry.getSharedInstance(),
+					new MappedPayloadProperties())))
+			.httpMessageCodecs(it -> it.defaultCodecs().jacksonJsonEncoder(new JacksonJsonEncoder(JsonMapper.builder()
+					.addModule(new ErrorsModule(messageSource()))
+					.build())))
+			.validator(new SampleDtoValidator())
+			.build();
+
+	@Test
+	void bindsAndReturnsSerializedObject() {
+
+		client.post().uri("/")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{ \"firstname\" : \"Dave\", \"lastname\" : \"Matthews\"}")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody().jsonPath("$.lastname").isEqualTo("Matthews");
+	}
+
+	@Test
+	void rejectsMissingField() {
+
+		client.post().uri("/")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{ \"firstname\" : \"Dave\" }")
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody().jsonPath("$.lastname").exists();
+	}
+
+	@Test
+	void resolvesPlainMappedPayload() {
+
+		client.post().uri("/plain")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{ \"firstname\" : \"Dave\", \"lastname\" : \"Matthews\"}")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody().jsonPath("$.lastname").isEqualTo("Matthews");
+	}
+
+	@Test
+	void rejectsMissingFieldForPlainMappedPayload() {
+
+		client.post().uri("/plain")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{ \"firstname\" : \"Dave\" }")
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody().jsonPath("$.lastname").exists();
+	}
+
+	private static StaticMessageSource messageSource() {
+
+		var messageSource = new StaticMessageSource();
+		messageSource.setUseCodeAsDefaultMessage(true);
+
+		return messageSource;
+	}
+
+	@RestController
+	static class SampleController {
+
+		@PostMapping("/")
+		Mono<ResponseEntity<?>> something(ReactiveMappedPayload<SampleDto> payload) {
+
+			return payload
+					.mapAsync(it -> Mono.just(it))
+					.concludeIfValid(ResponseEntity::ok);
+		}
+
+		@PostMapping("/plain")
+		ResponseEntity<?> somethingPlain(MappedPayload<SampleDto> payload) {
+			return payload.concludeIfValid(ResponseEntity::ok);
+		}
+	}
+
+	static class SampleDtoValidator implements Validator {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.validation.Validator#supports(java.lang.Class)
+		 */
+		@Override
+		public boolean supports(Class<?> type) {
+			return SampleDto.class.equals(type);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.validation.Validator#validate(java.lang.Object, org.springframework.validation.Errors)
+		 */
+		@Override
+		public void validate(Object target, Errors errors) {
+
+			if (!StringUtils.hasText(((SampleDto) target).getLastname())) {
+				errors.rejectValue("lastname", "lastname.notBlank");
+			}
+		}
+	}
+
+	@Data
+	static class SampleDto {
+		public String firstname, lastname;
+	}
+}